@@ -0,0 +1,101 @@
+package com.example.supplymaster.benchmark;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.entity.Supplier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Данные для бенчмарков: итоги поставок товаров, распределенные по поставщикам.
+ * <p>
+ * Данные генерируются с фиксированным начальным значением, поэтому запуски бенчмарков сравнимы между собой.
+ */
+public final class BenchmarkData {
+    /**
+     * Количество товаров одного поставщика в отчете.
+     */
+    public static final int PRODUCTS_PER_SUPPLIER = 100;
+
+    private static final long SEED = 42;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Генерирует итоги поставок товаров.
+     *
+     * @param rows количество строк.
+     * @return итоги, упорядоченные по поставщику.
+     */
+    public static List<ShipmentItemDto> productSummaries(int rows) {
+        Random random = new Random(SEED);
+        List<ShipmentItemDto> summaries = new ArrayList<>(rows);
+        UUID supplierId = null;
+        String supplierName = null;
+        for (int row = 0; row < rows; row++) {
+            if (row % PRODUCTS_PER_SUPPLIER == 0) {
+                supplierId = new UUID(random.nextLong(), random.nextLong());
+                supplierName = "Поставщик " + row / PRODUCTS_PER_SUPPLIER;
+            }
+            BigDecimal weightKg = weight(random);
+            summaries.add(new ShipmentItemDto(supplierId, supplierName, new UUID(random.nextLong(), random.nextLong()),
+                    "Продукт " + row, weightKg, weightKg.multiply(pricePerKg(random))));
+        }
+        return summaries;
+    }
+
+    /**
+     * Возвращает поставщиков итогов по идентификатору.
+     *
+     * @param summaries итоги поставок товаров.
+     * @return поставщики по идентификатору.
+     */
+    public static Map<UUID, Supplier> suppliers(List<ShipmentItemDto> summaries) {
+        Map<UUID, Supplier> suppliers = new LinkedHashMap<>();
+        for (ShipmentItemDto summary : summaries) {
+            suppliers.computeIfAbsent(summary.getSupplierId(), id -> {
+                Supplier supplier = new Supplier();
+                supplier.setId(id);
+                supplier.setName(summary.getSupplierName());
+                return supplier;
+            });
+        }
+        return suppliers;
+    }
+
+    /**
+     * Генерирует отчет о поставках.
+     *
+     * @param rows количество строк товаров в отчете.
+     * @return отчеты по поставщикам.
+     */
+    public static List<ShipmentReportDto> shipmentReports(int rows) {
+        Map<UUID, ShipmentReportDto> reports = new LinkedHashMap<>();
+        for (ShipmentItemDto summary : productSummaries(rows)) {
+            reports.computeIfAbsent(summary.getSupplierId(), id -> new ShipmentReportDto(id,
+                    summary.getSupplierName(), new ArrayList<>())).getShipments().add(summary);
+        }
+        return List.copyOf(reports.values());
+    }
+
+    /**
+     * Возвращает вес товара от 0.001 до 1000 кг.
+     */
+    public static BigDecimal weight(Random random) {
+        return BigDecimal.valueOf(1 + random.nextInt(1_000_000), 3);
+    }
+
+    /**
+     * Возвращает цену за килограмм от 0.01 до 1000.
+     */
+    public static BigDecimal pricePerKg(Random random) {
+        return BigDecimal.valueOf(1 + random.nextInt(100_000), 2);
+    }
+}
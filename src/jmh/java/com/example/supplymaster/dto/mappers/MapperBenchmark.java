@@ -0,0 +1,80 @@
+package com.example.supplymaster.dto.mappers;
+
+import com.example.supplymaster.benchmark.BenchmarkData;
+import com.example.supplymaster.dto.price.NewPriceRequest;
+import com.example.supplymaster.dto.price.PriceDto;
+import com.example.supplymaster.dto.shipment.ResponseShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.entity.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк преобразований MapStruct-мапперов {@link ShipmentMapper} и {@link PriceMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int rows;
+
+    private final ShipmentMapper shipmentMapper = new ShipmentMapperImpl();
+    private final PriceMapper priceMapper = new PriceMapperImpl();
+    private List<ShipmentReportDto> shipmentReports;
+    private NewPriceRequest newPriceRequest;
+    private PriceDto priceDto;
+
+    @Setup
+    public void setUp() {
+        shipmentReports = BenchmarkData.shipmentReports(rows);
+        newPriceRequest = new NewPriceRequest(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("12.50"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        priceDto = priceMapper.toPriceDtoFromNewPriceRequest(newPriceRequest);
+    }
+
+    /**
+     * Преобразование отчета о поставках в DTO ответа, как в {@code ShipmentController#getShipmentsReport}.
+     */
+    @Benchmark
+    public List<ResponseShipmentReportDto> shipmentReportToResponse() {
+        List<ResponseShipmentReportDto> response = new ArrayList<>(shipmentReports.size());
+        for (ShipmentReportDto report : shipmentReports) {
+            response.add(shipmentMapper.toResponseShipmentReportDto(report));
+        }
+        return response;
+    }
+
+    /**
+     * Преобразование запроса на создание цены в сущность, как при создании цены.
+     */
+    @Benchmark
+    public Price newPriceRequestToEntity() {
+        return priceMapper.toEntity(priceMapper.toPriceDtoFromNewPriceRequest(newPriceRequest));
+    }
+
+    @Benchmark
+    public Price priceDtoToEntity() {
+        return priceMapper.toEntity(priceDto);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.supplymaster.dto.shipment;
+
+import com.example.supplymaster.benchmark.BenchmarkData;
+import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.mappers.ShipmentMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сериализации отчета о поставках {@link ResponseShipmentReportDto} в JSON.
+ * <p>
+ * Ответ записывается в поток без буфера в памяти, поэтому измеряется только сериализация.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseShipmentReportSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<ResponseShipmentReportDto> report;
+
+    @Setup
+    public void setUp() {
+        ShipmentMapper shipmentMapper = new ShipmentMapperImpl();
+        report = BenchmarkData.shipmentReports(rows).stream()
+                .map(shipmentMapper::toResponseShipmentReportDto)
+                .toList();
+    }
+
+    @Benchmark
+    public void serializeReport() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), report);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.benchmark.BenchmarkData;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Shipment;
+import com.example.supplymaster.entity.ShipmentItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк построения товаров отгрузки и расчета их стоимости в {@link ShipmentServiceImpl}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipmentItemBenchmark {
+
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    private Shipment shipment;
+    private Product[] products;
+    private BigDecimal[] weights;
+    private BigDecimal[] prices;
+    private Set<ShipmentItem> shipmentItems;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        shipment = new Shipment();
+        shipment.setId(UUID.randomUUID());
+        products = new Product[itemCount];
+        weights = new BigDecimal[itemCount];
+        prices = new BigDecimal[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            products[i] = new Product();
+            products[i].setId(new UUID(random.nextLong(), random.nextLong()));
+            weights[i] = BenchmarkData.weight(random);
+            prices[i] = BenchmarkData.pricePerKg(random);
+        }
+        shipmentItems = createShipmentItems();
+    }
+
+    /**
+     * Построение товаров отгрузки, как при создании отгрузки.
+     */
+    @Benchmark
+    public Set<ShipmentItem> createShipmentItems() {
+        Set<ShipmentItem> items = new HashSet<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(ShipmentServiceImpl.createShipmentItem(shipment, products[i], weights[i], prices[i]));
+        }
+        return items;
+    }
+
+    /**
+     * Пересчет стоимости товаров после добавления веса, как при изменении отгрузки.
+     */
+    @Benchmark
+    public BigDecimal addWeightsAndSumTotals() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (ShipmentItem item : shipmentItems) {
+            BigDecimal weightKg = item.getWeightKg().add(BigDecimal.ONE);
+            total = total.add(item.getPricePerKg().multiply(weightKg));
+        }
+        return total;
+    }
+}
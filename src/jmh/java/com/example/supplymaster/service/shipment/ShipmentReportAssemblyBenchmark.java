@@ -0,0 +1,52 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.benchmark.BenchmarkData;
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.entity.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сборки отчета о поставках из итогов товаров в {@link ShipmentServiceImpl#getShipmentsReport}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipmentReportAssemblyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int rows;
+
+    private List<ShipmentItemDto> productSummaries;
+    private Map<UUID, Supplier> suppliers;
+
+    @Setup
+    public void setUp() {
+        productSummaries = BenchmarkData.productSummaries(rows);
+        suppliers = BenchmarkData.suppliers(productSummaries);
+    }
+
+    @Benchmark
+    public List<ShipmentReportDto> assembleReport() {
+        Map<UUID, List<ShipmentItemDto>> supplierShipments = ShipmentServiceImpl.groupBySupplier(productSummaries);
+        return ShipmentServiceImpl.toShipmentReports(supplierShipments, suppliers);
+    }
+}
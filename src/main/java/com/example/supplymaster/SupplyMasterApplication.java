@@ -2,6 +2,7 @@ package com.example.supplymaster;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Основной класс приложения SupplyMaster.
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Запускает Spring Boot приложение, автоматически конфигурируя контекст.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SupplyMasterApplication {
 
     /**
@@ -0,0 +1,85 @@
+package com.example.supplymaster.aspect;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Краткие описания аргументов и результатов методов для лога.
+ * <p>
+ * Вместо {@code toString} объектов записываются значения простых типов, размеры коллекций и названия
+ * классов, поэтому стоимость описания не зависит от размера данных.
+ */
+final class LogSummaries {
+    private static final String ELLIPSIS = "...";
+
+    private LogSummaries() {
+    }
+
+    /**
+     * Описывает аргументы метода.
+     *
+     * @param args      аргументы.
+     * @param maxLength максимальная длина описания.
+     * @return описание аргументов.
+     */
+    static String ofArgs(Object[] args, int maxLength) {
+        StringBuilder summary = new StringBuilder("[");
+        for (int i = 0; i < args.length && summary.length() <= maxLength; i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            append(summary, args[i], maxLength);
+        }
+        return truncate(summary.append(']'), maxLength);
+    }
+
+    /**
+     * Описывает значение.
+     *
+     * @param value     значение.
+     * @param maxLength максимальная длина описания.
+     * @return описание значения.
+     */
+    static String of(Object value, int maxLength) {
+        return truncate(append(new StringBuilder(), value, maxLength), maxLength);
+    }
+
+    private static StringBuilder append(StringBuilder summary, Object value, int maxLength) {
+        switch (value) {
+            case null -> summary.append("null");
+            case UUID uuid -> summary.append(uuid);
+            case Number number -> summary.append(number);
+            case Boolean bool -> summary.append(bool);
+            case Enum<?> constant -> summary.append(constant.name());
+            case Temporal temporal -> summary.append(temporal);
+            case CharSequence text -> summary.append('"')
+                    .append(text, 0, Math.min(text.length(), maxLength))
+                    .append('"');
+            case List<?> list -> summary.append("List[size=").append(list.size()).append(']');
+            case Set<?> set -> summary.append("Set[size=").append(set.size()).append(']');
+            case Collection<?> collection -> summary.append("Collection[size=").append(collection.size()).append(']');
+            case Map<?, ?> map -> summary.append("Map[size=").append(map.size()).append(']');
+            default -> {
+                if (value.getClass().isArray()) {
+                    summary.append(value.getClass().getComponentType().getSimpleName())
+                            .append("[length=").append(Array.getLength(value)).append(']');
+                } else {
+                    summary.append(value.getClass().getSimpleName());
+                }
+            }
+        }
+        return summary;
+    }
+
+    private static String truncate(StringBuilder summary, int maxLength) {
+        if (summary.length() <= maxLength) {
+            return summary.toString();
+        }
+        return summary.substring(0, Math.max(0, maxLength - ELLIPSIS.length())) + ELLIPSIS;
+    }
+}
@@ -1,18 +1,32 @@
 package com.example.supplymaster.aspect;
 
+import com.example.supplymaster.config.ServiceLoggingProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Аспект для логирования выполнения методов сервисных классов.
+ * <p>
+ * Логируется выборка успешных вызовов с долей, настроенной для пакета сервисов; ошибки логируются всегда.
+ * Вместо полных значений аргументов и результата записываются их краткие описания ограниченной длины,
+ * а сервис, операция и длительность передаются отдельными полями записи. Если запись не попала в выборку
+ * или уровень INFO выключен, вызов выполняется без подготовки записи.
  */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LoggingAspect {
+    private static final String PRICE_PACKAGE = "price";
+    private static final String SHIPMENT_PACKAGE = "shipment";
+
+    private final ServiceLoggingProperties properties;
 
     /**
      * Логирование выполнения методов в пакете price service.
@@ -23,7 +37,7 @@ public class LoggingAspect {
      */
     @Around("execution(* com.example.supplymaster.service.price.*.*(..))")
     public Object logPriceService(ProceedingJoinPoint joinPoint) throws Throwable {
-        return logExecution(joinPoint, "PriceService");
+        return logExecution(joinPoint, "PriceService", PRICE_PACKAGE);
     }
 
     /**
@@ -35,31 +49,57 @@ public class LoggingAspect {
      */
     @Around("execution(* com.example.supplymaster.service.shipment.*.*(..))")
     public Object logShipmentService(ProceedingJoinPoint joinPoint) throws Throwable {
-        return logExecution(joinPoint, "ShipmentService");
+        return logExecution(joinPoint, "ShipmentService", SHIPMENT_PACKAGE);
     }
 
     /**
-     * Логирует начало и завершение выполнения метода, а также возможные ошибки.
+     * Логирует завершение выполнения метода с его длительностью, а также возможные ошибки.
      *
      * @param joinPoint   точка присоединения, представляющая метод
      * @param serviceName название сервиса, в котором выполняется метод
+     * @param packageName пакет сервисов, по которому выбираются настройки логирования
      * @return результат выполнения метода
      * @throws Throwable если возникает исключение во время выполнения метода
      */
-    private Object logExecution(ProceedingJoinPoint joinPoint, String serviceName) throws Throwable {
-        String operation = defineOperation(joinPoint.getSignature().getName());
-        log.info("[{}] {} началось. Аргументы: {}", serviceName, operation, joinPoint.getArgs());
-
+    private Object logExecution(ProceedingJoinPoint joinPoint, String serviceName, String packageName)
+            throws Throwable {
+        boolean sampled = log.isInfoEnabled() && isSampled(properties.sampleRate(packageName));
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            log.info("[{}] {} успешно завершено. Результат: {}", serviceName, operation, result);
+            if (sampled) {
+                int maxLength = properties.maxLength(packageName);
+                log.atInfo()
+                        .addKeyValue("service", serviceName)
+                        .addKeyValue("method", joinPoint.getSignature().getName())
+                        .addKeyValue("durationMs", elapsedMillis(start))
+                        .addKeyValue("args", LogSummaries.ofArgs(joinPoint.getArgs(), maxLength))
+                        .addKeyValue("result", LogSummaries.of(result, maxLength))
+                        .log("[{}] {} успешно завершено", serviceName,
+                                defineOperation(joinPoint.getSignature().getName()));
+            }
             return result;
         } catch (Exception ex) {
-            log.error("[{}] Ошибка при {}. Исключение: {}", serviceName, operation, ex.getMessage(), ex);
+            log.atError()
+                    .addKeyValue("service", serviceName)
+                    .addKeyValue("method", joinPoint.getSignature().getName())
+                    .addKeyValue("durationMs", elapsedMillis(start))
+                    .addKeyValue("args", LogSummaries.ofArgs(joinPoint.getArgs(), properties.maxLength(packageName)))
+                    .setCause(ex)
+                    .log("[{}] Ошибка при {}. Исключение: {}", serviceName,
+                            defineOperation(joinPoint.getSignature().getName()), ex.getMessage());
             throw ex;
         }
     }
 
+    private static boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
     /**
      * Определяет тип операции по названию метода.
      *
@@ -0,0 +1,32 @@
+package com.example.supplymaster.aspect;
+
+import com.example.supplymaster.metrics.RequestTimings;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Аспект для учета времени мапперов как этапа {@link RequestTimings.Phase#MAPPING} HTTP-запроса.
+ */
+@Aspect
+@Component
+public class MappingTimingAspect {
+
+    /**
+     * Отмечает время выполнения методов мапперов.
+     *
+     * @param joinPoint точка присоединения, представляющая метод
+     * @return результат выполнения метода
+     * @throws Throwable если возникает исключение во время выполнения метода
+     */
+    @Around("execution(* com.example.supplymaster.dto.mappers.*.*(..))")
+    public Object measureMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings.start(RequestTimings.Phase.MAPPING);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.MAPPING);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.supplymaster.aspect;
+
+import com.example.supplymaster.metrics.JdbcStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Аспект для сбора метрик выполнения методов сервисных классов.
+ * <p>
+ * Для каждой операции сервиса записываются длительность с гистограммой для расчёта перцентилей, количество
+ * выполненных JDBC-запросов и их суммарное время. Метрики создаются один раз на метод, а при вызове
+ * только считываются счётчики потока и обновляются готовые метрики.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Сбор метрик выполнения методов в пакете price service.
+     *
+     * @param joinPoint точка присоединения, представляющая метод
+     * @return результат выполнения метода
+     * @throws Throwable если возникает исключение во время выполнения метода
+     */
+    @Around("execution(* com.example.supplymaster.service.price.*.*(..))")
+    public Object measurePriceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measureExecution(joinPoint, "PriceService");
+    }
+
+    /**
+     * Сбор метрик выполнения методов в пакете shipment service.
+     *
+     * @param joinPoint точка присоединения, представляющая метод
+     * @return результат выполнения метода
+     * @throws Throwable если возникает исключение во время выполнения метода
+     */
+    @Around("execution(* com.example.supplymaster.service.shipment.*.*(..))")
+    public Object measureShipmentService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measureExecution(joinPoint, "ShipmentService");
+    }
+
+    /**
+     * Измеряет длительность выполнения метода и выполненные за это время JDBC-запросы текущего потока.
+     *
+     * @param joinPoint   точка присоединения, представляющая метод
+     * @param serviceName название сервиса, в котором выполняется метод
+     * @return результат выполнения метода
+     * @throws Throwable если возникает исключение во время выполнения метода
+     */
+    private Object measureExecution(ProceedingJoinPoint joinPoint, String serviceName) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        OperationMeters operationMeters = meters.get(method);
+        if (operationMeters == null) {
+            operationMeters = meters.computeIfAbsent(method, key -> registerMeters(serviceName, key.getName()));
+        }
+        JdbcStatementCounter.Stats stats = JdbcStatementCounter.current();
+        long startStatements = stats.statements();
+        long startStatementNanos = stats.nanos();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            operationMeters.duration().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            operationMeters.statements().record(stats.statements() - startStatements);
+            operationMeters.statementTime().record(stats.nanos() - startStatementNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private OperationMeters registerMeters(String serviceName, String operation) {
+        return new OperationMeters(
+                Timer.builder("service.operation")
+                        .description("Длительность операции сервиса")
+                        .tags("service", serviceName, "operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("service.operation.statements")
+                        .description("Количество JDBC-запросов, выполненных операцией сервиса")
+                        .tags("service", serviceName, "operation", operation)
+                        .register(meterRegistry),
+                Timer.builder("service.operation.db.time")
+                        .description("Суммарное время JDBC-запросов, выполненных операцией сервиса")
+                        .tags("service", serviceName, "operation", operation)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Метрики операции сервиса.
+     */
+    private record OperationMeters(Timer duration, DistributionSummary statements, Timer statementTime) {
+    }
+}
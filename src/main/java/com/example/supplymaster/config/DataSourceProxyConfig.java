@@ -0,0 +1,35 @@
+package com.example.supplymaster.config;
+
+import com.example.supplymaster.metrics.JdbcStatementCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Конфигурационный класс для учета JDBC-запросов.
+ * <p>
+ * Источник данных оборачивается прокси, который передает каждый выполненный запрос
+ * {@link JdbcStatementCounter}, поэтому учитываются запросы и Hibernate, и JdbcTemplate.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        JdbcStatementCounter statementCounter = new JdbcStatementCounter();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(statementCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Настройки записи JFR, запускаемой через Actuator.
+ *
+ * @param settings название конфигурации JFR ({@code default} или {@code profile}).
+ * @param maxAge   максимальный возраст событий в записи.
+ * @param maxSize  максимальный размер записи.
+ */
+@ConfigurationProperties(prefix = "supply-master.flight-recording")
+public record FlightRecordingProperties(@DefaultValue("profile") String settings,
+                                        @DefaultValue("15m") Duration maxAge,
+                                        @DefaultValue("256MB") DataSize maxSize) {
+}
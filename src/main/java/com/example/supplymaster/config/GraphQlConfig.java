@@ -1,12 +1,22 @@
 package com.example.supplymaster.config;
 
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.scalars.ExtendedScalars;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 
+import java.util.Collection;
+
 /**
  * Конфигурационный класс для настройки GraphQL.
+ * <p>
+ * Помимо скаляров настраивает кэш разобранных документов со сохраненными запросами и ограничения глубины
+ * и сложности запросов, чтобы один запрос не мог занять пул соединений с базой данных.
  */
 @Configuration
 public class GraphQlConfig {
@@ -14,6 +24,44 @@ public class GraphQlConfig {
     @Bean
     public RuntimeWiringConfigurer runtimeWiringConfigurer() {
         return wiringBuilder -> wiringBuilder
-                .scalar(ExtendedScalars.UUID).build();
+                .scalar(ExtendedScalars.UUID)
+                .scalar(ExtendedScalars.Date).build();
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer graphQlDocumentProviderCustomizer(GraphQlExecutionProperties properties,
+                                                                           MeterRegistry meterRegistry) {
+        GraphQlDocumentProvider documentProvider = new GraphQlDocumentProvider(properties, meterRegistry);
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlExecutionProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.maxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            GraphQlExecutionProperties properties) {
+        return new MaxQueryComplexityInstrumentation(properties.maxComplexity(), GraphQlConfig::fieldComplexity);
+    }
+
+    /**
+     * Считает сложность поля: единица плюс сложность вложенных полей, умноженная на количество запрошенных
+     * элементов для полей с аргументами {@code first} или {@code ids}. Для полей с аргументом {@code items}
+     * к сложности добавляется количество переданных элементов.
+     */
+    static int fieldComplexity(FieldComplexityEnvironment environment, int childComplexity) {
+        long multiplier = 1;
+        if (environment.getArguments().get("first") instanceof Integer first) {
+            multiplier = Math.max(first, 1);
+        } else if (environment.getArguments().get("ids") instanceof Collection<?> ids) {
+            multiplier = Math.max(ids.size(), 1);
+        }
+        long complexity = (1L + childComplexity) * multiplier;
+        if (environment.getArguments().get("items") instanceof Collection<?> items) {
+            complexity += items.size();
+        }
+        return (int) Math.min(complexity, Integer.MAX_VALUE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.example.supplymaster.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Поставщик разобранных и проверенных GraphQL-документов.
+ * <p>
+ * Запросы с расширением {@code persistedQuery} обрабатываются как сохраненные запросы Apollo: документ
+ * ищется по SHA-256 хэшу текста, а текст передается клиентом только при первом обращении. Остальные запросы
+ * ищутся по тексту. В кэши попадают только документы без ошибок, поэтому неверный хэш или текст не
+ * вытесняют корректные документы и не закрепляются за хэшем.
+ */
+public class GraphQlDocumentProvider implements PreparsedDocumentProvider {
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Cache<Object, PreparsedDocumentEntry> persistedQueries;
+    private final PreparsedDocumentProvider persistedQuerySupport;
+
+    public GraphQlDocumentProvider(GraphQlExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.documents = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.documentCacheSize())
+                .recordStats()
+                .<String, PreparsedDocumentEntry>build(), "graphql.documents");
+        this.persistedQueries = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(properties.persistedQueryCacheSize())
+                .recordStats()
+                .build(), "graphql.persisted.queries");
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport(this::getPersistedQuery);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        if (executionInput.getExtensions().get(PERSISTED_QUERY_EXTENSION) instanceof Map<?, ?>) {
+            return persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidate);
+        }
+        String query = executionInput.getQuery();
+        PreparsedDocumentEntry cached = documents.getIfPresent(query);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        PreparsedDocumentEntry entry = parseAndValidate.apply(executionInput);
+        if (!entry.hasErrors()) {
+            documents.put(query, entry);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Возвращает документ сохраненного запроса по хэшу, разбирая переданный текст при первом обращении.
+     *
+     * @throws PersistedQueryNotFound если документа нет в кэше, а текст запроса не передан.
+     */
+    private CompletableFuture<PreparsedDocumentEntry> getPersistedQuery(Object persistedQueryId,
+                                                                        ExecutionInput executionInput,
+                                                                        PersistedQueryCacheMiss onCacheMiss) {
+        PreparsedDocumentEntry cached = persistedQueries.getIfPresent(persistedQueryId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        String query = executionInput.getQuery();
+        if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+        PreparsedDocumentEntry entry = onCacheMiss.apply(query);
+        if (!entry.hasErrors()) {
+            persistedQueries.put(persistedQueryId, entry);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+}
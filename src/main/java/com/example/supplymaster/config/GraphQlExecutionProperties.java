@@ -0,0 +1,21 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Настройки выполнения GraphQL-запросов.
+ *
+ * @param documentCacheSize       количество разобранных и проверенных документов, хранимых по тексту запроса.
+ * @param persistedQueryCacheSize количество сохраненных запросов, хранимых по хэшу.
+ * @param maxDepth                максимальная глубина запроса.
+ * @param maxComplexity           максимальная сложность запроса; сложность полей со списком умножается
+ *                                на запрошенное количество элементов, а к сложности полей с аргументом
+ *                                {@code items} прибавляется количество переданных элементов.
+ */
+@ConfigurationProperties(prefix = "supply-master.graphql")
+public record GraphQlExecutionProperties(@DefaultValue("1000") int documentCacheSize,
+                                         @DefaultValue("1000") int persistedQueryCacheSize,
+                                         @DefaultValue("10") int maxDepth,
+                                         @DefaultValue("20000") int maxComplexity) {
+}
@@ -0,0 +1,13 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Настройки массового импорта цен.
+ *
+ * @param batchSize количество строк в одном JDBC-пакете вставки.
+ */
+@ConfigurationProperties(prefix = "supply-master.price-import")
+public record PriceImportProperties(@DefaultValue("1000") int batchSize) {
+}
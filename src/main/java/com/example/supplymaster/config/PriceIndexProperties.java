@@ -0,0 +1,13 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Настройки индекса цен в памяти.
+ *
+ * @param enabled если {@code false}, цены всегда запрашиваются из базы данных.
+ */
+@ConfigurationProperties(prefix = "supply-master.price-index")
+public record PriceIndexProperties(@DefaultValue("true") boolean enabled) {
+}
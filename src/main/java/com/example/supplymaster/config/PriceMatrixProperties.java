@@ -0,0 +1,16 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Настройки матрицы цен на дату.
+ * <p>
+ * Расписание ежедневного построения матрицы задается свойством {@code supply-master.price-matrix.rebuild-cron}
+ * и читается аннотацией {@code @Scheduled} в {@link com.example.supplymaster.service.price.matrix.PriceMatrixCache}.
+ *
+ * @param maxCachedDates максимальное количество дат, для которых матрица хранится в памяти.
+ */
+@ConfigurationProperties(prefix = "supply-master.price-matrix")
+public record PriceMatrixProperties(@DefaultValue("31") int maxCachedDates) {
+}
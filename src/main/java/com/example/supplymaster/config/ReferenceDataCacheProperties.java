@@ -0,0 +1,17 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша справочных данных о поставщиках и продуктах.
+ *
+ * @param maximumSize      максимальное количество записей в кэше каждого справочника.
+ * @param expireAfterWrite время хранения записи в кэше.
+ */
+@ConfigurationProperties(prefix = "supply-master.reference-cache")
+public record ReferenceDataCacheProperties(@DefaultValue("10000") long maximumSize,
+                                           @DefaultValue("10m") Duration expireAfterWrite) {
+}
@@ -0,0 +1,21 @@
+package com.example.supplymaster.config;
+
+import com.example.supplymaster.metrics.TimedMappingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Конфигурационный класс для учета этапов обработки HTTP-запросов.
+ * <p>
+ * Стандартный конвертер JSON заменяется конвертером, отмечающим время сериализации ответа.
+ */
+@Configuration
+public class RequestTimingConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+}
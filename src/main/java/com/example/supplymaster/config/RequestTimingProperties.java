@@ -0,0 +1,18 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Настройки учета этапов обработки HTTP-запросов.
+ *
+ * @param diagnosticHeader заголовок запроса, при наличии которого этапы возвращаются в заголовке
+ *                         {@code Server-Timing}, а не записываются в метрики.
+ * @param pathPrefixes     префиксы путей запросов, для которых учитываются этапы.
+ */
+@ConfigurationProperties(prefix = "supply-master.request-timing")
+public record RequestTimingProperties(@DefaultValue("X-Request-Timing") String diagnosticHeader,
+                                      @DefaultValue({"/api/", "/graphql"}) List<String> pathPrefixes) {
+}
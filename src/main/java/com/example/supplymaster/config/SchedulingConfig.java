@@ -0,0 +1,12 @@
+package com.example.supplymaster.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Конфигурационный класс для включения выполнения задач по расписанию.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,54 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Настройки логирования вызовов сервисов.
+ *
+ * @param sampleRate доля логируемых успешных вызовов от 0 до 1; ошибки логируются всегда.
+ * @param maxLength  максимальная длина описания аргументов и результата в записи лога.
+ * @param packages   переопределения настроек по пакету сервисов ({@code price}, {@code shipment}).
+ */
+@ConfigurationProperties(prefix = "supply-master.service-logging")
+public record ServiceLoggingProperties(@DefaultValue("1.0") double sampleRate,
+                                       @DefaultValue("200") int maxLength,
+                                       Map<String, PackageSettings> packages) {
+
+    public ServiceLoggingProperties {
+        packages = packages == null ? Map.of() : Map.copyOf(packages);
+    }
+
+    /**
+     * Настройки логирования пакета сервисов; незаданные значения берутся из общих настроек.
+     *
+     * @param sampleRate доля логируемых успешных вызовов.
+     * @param maxLength  максимальная длина описания аргументов и результата.
+     */
+    public record PackageSettings(Double sampleRate, Integer maxLength) {
+    }
+
+    /**
+     * Возвращает долю логируемых вызовов пакета.
+     *
+     * @param packageName пакет сервисов.
+     * @return доля логируемых вызовов.
+     */
+    public double sampleRate(String packageName) {
+        PackageSettings settings = packages.get(packageName);
+        return settings == null || settings.sampleRate() == null ? sampleRate : settings.sampleRate();
+    }
+
+    /**
+     * Возвращает максимальную длину описания аргументов и результата для пакета.
+     *
+     * @param packageName пакет сервисов.
+     * @return максимальная длина.
+     */
+    public int maxLength(String packageName) {
+        PackageSettings settings = packages.get(packageName);
+        return settings == null || settings.maxLength() == null ? maxLength : settings.maxLength();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Настройки пакетного создания отгрузок.
+ *
+ * @param flushSize количество отгрузок, после сохранения которых контекст персистентности
+ *                  сбрасывается в базу данных и очищается.
+ */
+@ConfigurationProperties(prefix = "supply-master.shipment-batch")
+public record ShipmentBatchProperties(@DefaultValue("500") int flushSize) {
+}
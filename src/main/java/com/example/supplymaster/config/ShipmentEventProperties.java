@@ -0,0 +1,17 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Настройки рассылки событий об отгрузках подписчикам.
+ *
+ * @param subscriberQueueSize максимальное количество неотправленных событий одного подписчика.
+ * @param timeout             время, по истечении которого подписка закрывается и клиент переподключается.
+ */
+@ConfigurationProperties(prefix = "supply-master.shipment-events")
+public record ShipmentEventProperties(@DefaultValue("256") int subscriberQueueSize,
+                                      @DefaultValue("30m") Duration timeout) {
+}
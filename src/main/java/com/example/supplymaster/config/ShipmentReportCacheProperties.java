@@ -0,0 +1,16 @@
+package com.example.supplymaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Настройки кэша отчетов о поставках.
+ *
+ * @param enabled   включен ли кэш.
+ * @param maxMemory оценочный объём памяти, который могут занимать закэшированные отчеты.
+ */
+@ConfigurationProperties(prefix = "supply-master.shipment-report-cache")
+public record ShipmentReportCacheProperties(@DefaultValue("true") boolean enabled,
+                                            @DefaultValue("64MB") DataSize maxMemory) {
+}
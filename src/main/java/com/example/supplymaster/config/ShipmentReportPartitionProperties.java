@@ -0,0 +1,36 @@
+package com.example.supplymaster.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Period;
+
+/**
+ * Настройки параллельного построения отчетов о поставках по частям периода.
+ *
+ * @param enabled       включено ли построение по частям.
+ * @param partitionSize длина части периода; должна быть положительной.
+ * @param parallelism   максимальное количество одновременно выполняемых запросов; должно быть меньше
+ *                      размера пула соединений.
+ */
+@Validated
+@ConfigurationProperties(prefix = "supply-master.shipment-report-partition")
+public record ShipmentReportPartitionProperties(@DefaultValue("true") boolean enabled,
+                                                @NotNull @DefaultValue("P1M") Period partitionSize,
+                                                @Min(1) @DefaultValue("4") int parallelism) {
+
+    /**
+     * Проверяет, что каждая часть периода сдвигает начало следующей части вперед.
+     *
+     * @return {@code true}, если длина части положительна.
+     */
+    @AssertTrue(message = "должна быть положительной")
+    public boolean isPartitionSizePositive() {
+        return partitionSize == null
+                || !partitionSize.isZero() && partitionSize.toTotalMonths() >= 0 && partitionSize.getDays() >= 0;
+    }
+}
@@ -2,30 +2,42 @@ package com.example.supplymaster.controller;
 
 import com.example.supplymaster.dto.mappers.PriceMapper;
 import com.example.supplymaster.dto.price.NewPriceRequest;
+import com.example.supplymaster.dto.price.PriceImportReportDto;
+import com.example.supplymaster.dto.price.PriceMatrixDto;
+import com.example.supplymaster.dto.price.PriceQuoteDto;
+import com.example.supplymaster.dto.price.PriceQuoteRequest;
 import com.example.supplymaster.dto.price.PriceDto;
 import com.example.supplymaster.dto.price.UpdatePriceRequest;
+import com.example.supplymaster.service.price.PriceImportService;
 import com.example.supplymaster.service.price.PriceService;
+import com.example.supplymaster.service.price.imports.PriceImportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
  * Контроллер для управления ценами на продукты.
  * <p>
- * Позволяет создавать и обновлять цены.
+ * Позволяет создавать и обновлять цены, импортировать их из файла и получать цены на даты.
  */
 @RestController
 @RequestMapping("/api/v1/prices")
@@ -33,6 +45,7 @@ import java.util.UUID;
 @Tag(name = "Цены", description = "API для управления ценами продуктов")
 public class PriceController {
     private final PriceService priceService;
+    private final PriceImportService priceImportService;
     private final PriceMapper priceMapper;
 
     /**
@@ -74,4 +87,58 @@ public class PriceController {
         priceDto.setId(priceId);
         return priceService.updatePriceForProduct(priceDto);
     }
+
+    /**
+     * Импортирует цены из файла CSV или NDJSON.
+     *
+     * @param contentType формат файла, передается в заголовке Content-Type.
+     * @param inputStream содержимое файла.
+     * @return отчет об импорте со списком отклоненных строк.
+     */
+    @Operation(summary = "Импортировать цены", description = "Массово создает цены из файла CSV "
+            + "(supplierId,productId,pricePerKg,startDate,endDate) или NDJSON. Строки с ошибками и пересечениями "
+            + "периодов не сохраняются и перечисляются в отчете.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Импорт выполнен"),
+            @ApiResponse(responseCode = "400", description = "Неподдерживаемый формат файла")
+    })
+    @PostMapping(value = "/import", consumes = {PriceImportFormat.CSV_VALUE, PriceImportFormat.NDJSON_VALUE})
+    public PriceImportReportDto importPrices(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                             InputStream inputStream) {
+        return priceImportService.importPrices(inputStream, PriceImportFormat.fromContentType(contentType));
+    }
+
+    /**
+     * Возвращает цены для списка сочетаний поставщик/продукт/дата.
+     *
+     * @param priceQuoteRequest список сочетаний поставщик/продукт/дата.
+     * @return цены по колонкам в порядке элементов запроса.
+     */
+    @Operation(summary = "Получить цены на даты", description = "Возвращает цены для списка сочетаний "
+            + "поставщик/продукт/дата за один запрос к базе данных или из индекса цен.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Цены успешно получены"),
+            @ApiResponse(responseCode = "400", description = "Некорректные данные")
+    })
+    @PostMapping("/quotes")
+    public PriceQuoteDto quotePrices(@RequestBody @Valid PriceQuoteRequest priceQuoteRequest) {
+        return priceService.quotePrices(priceQuoteRequest.getItems());
+    }
+
+    /**
+     * Возвращает матрицу цен поставщик × продукт, действующих на дату.
+     *
+     * @param date дата, по умолчанию текущая.
+     * @return матрица цен.
+     */
+    @Operation(summary = "Получить матрицу цен", description = "Возвращает цены всех поставщиков и продуктов, "
+            + "действующие на указанную дату.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Матрица цен успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping("/matrix")
+    public PriceMatrixDto getPriceMatrix(@RequestParam(required = false) LocalDate date) {
+        return priceService.getPriceMatrix(date != null ? date : LocalDate.now());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.supplymaster.controller;
+
+import com.example.supplymaster.dto.price.PriceQuoteDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
+import com.example.supplymaster.dto.price.PriceQuoteRequest;
+import com.example.supplymaster.error.exception.ValidationException;
+import com.example.supplymaster.service.price.PriceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * GraphQL-контроллер для получения цен продуктов поставщиков.
+ */
+@Controller
+@RequiredArgsConstructor
+public class PriceGraphQLController {
+    private final PriceService priceService;
+
+    /**
+     * Получает цены для списка сочетаний поставщик/продукт/дата.
+     *
+     * @param items сочетания поставщик/продукт/дата.
+     * @return цены по колонкам в порядке элементов запроса.
+     * @throws ValidationException если список пуст или содержит больше {@link PriceQuoteRequest#MAX_ITEMS}
+     *                             сочетаний.
+     */
+    @QueryMapping
+    public PriceQuoteDto quotePrices(@Argument List<PriceQuoteItemRequest> items) {
+        if (items.isEmpty() || items.size() > PriceQuoteRequest.MAX_ITEMS) {
+            throw new ValidationException("Количество сочетаний должно быть от 1 до " + PriceQuoteRequest.MAX_ITEMS);
+        }
+        return priceService.quotePrices(items);
+    }
+}
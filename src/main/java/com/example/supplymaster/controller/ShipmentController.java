@@ -1,17 +1,37 @@
 package com.example.supplymaster.controller;
 
 import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.page.CursorPageDto;
+import com.example.supplymaster.dto.shipment.NewShipmentBatchRequest;
 import com.example.supplymaster.dto.shipment.NewShipmentRequest;
 import com.example.supplymaster.dto.shipment.ResponseShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentBatchResultDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
+import com.example.supplymaster.dto.shipment.ShipmentUpdateMode;
 import com.example.supplymaster.dto.shipment.UpdateShipmentRequest;
+import com.example.supplymaster.service.shipment.ShipmentBatchService;
+import com.example.supplymaster.service.shipment.ShipmentReportExportService;
 import com.example.supplymaster.service.shipment.ShipmentService;
+import com.example.supplymaster.service.shipment.events.ShipmentEventBroadcaster;
+import com.example.supplymaster.service.shipment.export.ShipmentReportExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,8 +42,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,6 +61,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ShipmentController {
     private final ShipmentService shipmentService;
+    private final ShipmentBatchService shipmentBatchService;
+    private final ShipmentReportExportService shipmentReportExportService;
+    private final ShipmentEventBroadcaster shipmentEventBroadcaster;
     private final ShipmentMapper shipmentMapper;
 
     /**
@@ -61,15 +87,37 @@ public class ShipmentController {
                 newShipmentRequest.getShipmentItems());
     }
 
+    /**
+     * Создает несколько поставок поставщика одним запросом.
+     *
+     * @param batchRequest объект со списком новых поставок.
+     * @param supplierId   идентификатор поставщика, передается в заголовке запроса.
+     * @return результаты создания поставок в порядке запроса.
+     */
+    @Operation(summary = "Создать поставки пакетом", description = "Создает несколько поставок указанного "
+            + "поставщика. Поставки с ошибками не сохраняются, причина возвращается в результате.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Пакет обработан"),
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
+            @ApiResponse(responseCode = "404", description = "Поставщик не найден")
+    })
+    @PostMapping("/batch")
+    public List<ShipmentBatchResultDto> createShipments(@RequestBody @Valid NewShipmentBatchRequest batchRequest,
+                                                        @RequestHeader UUID supplierId) {
+        return shipmentBatchService.createShipments(supplierId, batchRequest.getShipments());
+    }
+
     /**
      * Обновляет существующую поставку.
      *
      * @param updateShipmentRequest объект с новыми данными для поставки.
      * @param supplierId            идентификатор поставщика, передается в заголовке запроса.
      * @param shipmentId            идентификатор обновляемой поставки.
+     * @param mode                  способ обновления поставки.
      * @return UUID обновленной поставки.
      */
-    @Operation(summary = "Обновить поставку", description = "Обновляет существующую поставку по ее идентификатору.")
+    @Operation(summary = "Обновить поставку", description = "Обновляет существующую поставку по ее идентификатору. "
+            + "В режиме ATOMIC вес товаров добавляется одним SQL-запросом без загрузки поставки.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Поставка успешно обновлена"),
             @ApiResponse(responseCode = "400", description = "Некорректные данные"),
@@ -78,7 +126,12 @@ public class ShipmentController {
     @PatchMapping("/{shipmentId}")
     public UUID updateShipment(@RequestBody UpdateShipmentRequest updateShipmentRequest,
                                @RequestHeader UUID supplierId,
-                               @PathVariable UUID shipmentId) {
+                               @PathVariable UUID shipmentId,
+                               @RequestParam(defaultValue = "ENTITY") ShipmentUpdateMode mode) {
+        if (mode == ShipmentUpdateMode.ATOMIC) {
+            return shipmentService.addShipmentWeights(shipmentId, supplierId, updateShipmentRequest.getShipmentDate(),
+                    updateShipmentRequest.getShipmentItems());
+        }
         return shipmentService.updateShipment(shipmentId, supplierId, updateShipmentRequest.getShipmentDate(),
                 updateShipmentRequest.getShipmentItems());
     }
@@ -101,4 +154,142 @@ public class ShipmentController {
         return shipmentService.getShipmentsReport(startDate, endDate).stream()
                 .map(shipmentMapper::toResponseShipmentReportDto).toList();
     }
+
+    /**
+     * Получает временные ряды поставок товаров за заданный период.
+     *
+     * @param startDate   начальная дата периода.
+     * @param endDate     конечная дата периода.
+     * @param granularity шаг временного ряда.
+     * @return временные ряды по паре поставщик/товар.
+     */
+    @Operation(summary = "Получить отчет о поставках по шагам", description = "Возвращает для каждой пары "
+            + "поставщик/товар итоги поставок за каждый день, неделю или месяц указанного периода.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Отчет успешно получен"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping(value = "/report", params = "granularity")
+    public List<ShipmentSeriesDto> getShipmentsReportSeries(@RequestParam LocalDate startDate,
+                                                            @RequestParam LocalDate endDate,
+                                                            @RequestParam ShipmentReportGranularity granularity) {
+        return shipmentService.getShipmentsReportSeries(startDate, endDate, granularity);
+    }
+
+    /**
+     * Получает первых поставщиков или товары по весу или стоимости поставок за заданный период.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param by        измерение рейтинга.
+     * @param metric    показатель рейтинга.
+     * @param limit     количество строк рейтинга.
+     * @return строки рейтинга в порядке убывания показателя.
+     */
+    @Operation(summary = "Получить рейтинг поставок", description = "Возвращает первых поставщиков или товары "
+            + "по общему весу или стоимости поставок за указанный период. Размер рейтинга — от 1 до 100.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Рейтинг успешно получен"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping("/report/top")
+    public List<ShipmentTopItemDto> getTopShipments(@RequestParam LocalDate startDate,
+                                                    @RequestParam LocalDate endDate,
+                                                    @RequestParam(defaultValue = "SUPPLIER") ShipmentTopDimension by,
+                                                    @RequestParam(defaultValue = "WEIGHT") ShipmentTopMetric metric,
+                                                    @RequestParam(defaultValue = "10") int limit) {
+        return shipmentService.getTopShipments(startDate, endDate, by, metric, limit);
+    }
+
+    /**
+     * Подписывает клиента на события о создании и изменении поставок.
+     *
+     * @param supplierId идентификатор поставщика, события которого нужны клиенту; если не указан — все поставки.
+     * @return поток событий Server-Sent Events.
+     */
+    @Operation(summary = "Подписаться на события о поставках", description = "Возвращает поток Server-Sent Events "
+            + "с событиями CREATED и UPDATED после фиксации изменений поставок. Неотправленные события одной поставки "
+            + "объединяются, а при переполнении очереди клиента самые старые события удаляются.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Подписка открыта")
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeShipmentEvents(@RequestParam(required = false) UUID supplierId) {
+        return shipmentEventBroadcaster.subscribe(supplierId);
+    }
+
+    /**
+     * Получает страницу поставок поставщика в порядке даты поставки.
+     *
+     * @param supplierId идентификатор поставщика, передается в заголовке запроса.
+     * @param limit      размер страницы.
+     * @param after      курсор предыдущей страницы.
+     * @return страница поставок и курсор следующей страницы.
+     */
+    @Operation(summary = "Получить поставки поставщика", description = "Возвращает страницу поставок поставщика "
+            + "в порядке даты поставки. Следующая страница запрашивается по курсору nextCursor; "
+            + "размер страницы — от 1 до 1000.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping
+    public CursorPageDto<ShipmentHeaderDto> getShipments(@RequestHeader UUID supplierId,
+                                                         @RequestParam(defaultValue = "100") int limit,
+                                                         @RequestParam(required = false) String after) {
+        return shipmentService.getShipmentsPage(supplierId, limit, after);
+    }
+
+    /**
+     * Получает страницу товарных позиций поставки.
+     *
+     * @param shipmentId идентификатор поставки.
+     * @param limit      размер страницы.
+     * @param after      курсор предыдущей страницы.
+     * @return страница товарных позиций и курсор следующей страницы.
+     */
+    @Operation(summary = "Получить товары поставки", description = "Возвращает страницу товарных позиций поставки. "
+            + "Следующая страница запрашивается по курсору nextCursor; размер страницы — от 1 до 1000.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping("/{shipmentId}/items")
+    public CursorPageDto<ShipmentItemReportGraphDto> getShipmentItems(
+            @PathVariable UUID shipmentId,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after) {
+        return shipmentService.getShipmentItemsPage(shipmentId, limit, after,
+                EnumSet.allOf(ShipmentItemField.class));
+    }
+
+    /**
+     * Выгружает отчет о поставках за заданный период в файл.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param format    формат файла.
+     * @return поток с содержимым файла.
+     */
+    @Operation(summary = "Выгрузить отчет о поставках", description = "Потоково выгружает отчет о поставках "
+            + "за указанный период в формате CSV или NDJSON (одна строка на поставщика).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Отчет выгружается"),
+            @ApiResponse(responseCode = "400", description = "Некорректные параметры запроса")
+    })
+    @GetMapping("/report/export")
+    public ResponseEntity<StreamingResponseBody> exportShipmentsReport(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "CSV") ShipmentReportExportFormat format) {
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("shipments-report-" + startDate + "-" + endDate + "." + format.getFileExtension())
+                .build();
+        StreamingResponseBody body = outputStream ->
+                shipmentReportExportService.exportShipmentsReport(startDate, endDate, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -1,33 +1,244 @@
 package com.example.supplymaster.controller;
 
+import com.example.supplymaster.dto.page.CursorPageDto;
+import com.example.supplymaster.dto.product.ProductDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
 import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.dto.supplier.SupplierDto;
+import com.example.supplymaster.service.shipment.ShipmentGraphService;
 import com.example.supplymaster.service.shipment.ShipmentService;
-import lombok.RequiredArgsConstructor;
+import com.example.supplymaster.service.shipment.cursor.ShipmentCursors;
+import graphql.relay.Connection;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * GraphQL-контроллер для получения данных о товарных позициях в поставке.
  * <p>
- * Позволяет запрашивать отчет о поставке через GraphQL.
+ * Позволяет запрашивать отчет о поставке и поставки вместе с поставщиками и товарами через GraphQL.
+ * Вложенные поля загружаются пакетно сразу для всех поставок ответа, поэтому количество SQL-запросов
+ * не зависит от количества поставок. Для товарных позиций из базы данных читаются только столбцы полей,
+ * запрошенных клиентом.
  */
 @Controller
-@RequiredArgsConstructor
 public class ShipmentItemReportGraphQLController {
+    private static final String SHIPMENT_ITEMS_LOADER = "shipmentItems";
+    private static final String EDGE_NODE = "edges/node/";
+
     private final ShipmentService shipmentService;
+    private final ShipmentGraphService shipmentGraphService;
+
+    public ShipmentItemReportGraphQLController(ShipmentService shipmentService,
+                                               ShipmentGraphService shipmentGraphService,
+                                               BatchLoaderRegistry batchLoaderRegistry) {
+        this.shipmentService = shipmentService;
+        this.shipmentGraphService = shipmentGraphService;
+        batchLoaderRegistry.<UUID, List<ShipmentItemReportGraphDto>>forName(SHIPMENT_ITEMS_LOADER)
+                .registerMappedBatchLoader((shipmentIds, environment) -> Mono.fromCallable(() ->
+                        shipmentGraphService.getShipmentItems(shipmentIds, requestedFields(
+                                environment.getKeyContextsList()))));
+    }
 
     /**
      * Получает отчет о товарных позициях в конкретной поставке.
      *
-     * @param shipmentId идентификатор поставки.
+     * @param shipmentId   идентификатор поставки.
+     * @param selectionSet поля, запрошенные клиентом.
      * @return список DTO с отчетными данными о товарах в поставке.
      */
     @QueryMapping
-    public List<ShipmentItemReportGraphDto> getShipmentItemsReports(@Argument UUID shipmentId) {
-        return shipmentService.getShipmentItemsReports(shipmentId);
+    public List<ShipmentItemReportGraphDto> getShipmentItemsReports(@Argument UUID shipmentId,
+                                                                    DataFetchingFieldSelectionSet selectionSet) {
+        return shipmentService.getShipmentItemsReports(shipmentId, requestedFields(selectionSet));
+    }
+
+    /**
+     * Получает страницу товарных позиций поставки.
+     *
+     * @param shipmentId   идентификатор поставки.
+     * @param first        размер страницы.
+     * @param after        курсор последней прочитанной товарной позиции.
+     * @param selectionSet поля, запрошенные клиентом.
+     * @return страница товарных позиций.
+     */
+    @QueryMapping
+    public Connection<ShipmentItemReportGraphDto> shipmentItemsConnection(@Argument UUID shipmentId,
+                                                                         @Argument int first,
+                                                                         @Argument String after,
+                                                                         DataFetchingFieldSelectionSet selectionSet) {
+        return toConnection(shipmentService.getShipmentItemsPage(shipmentId, first, after,
+                requestedFields(selectionSet, EDGE_NODE)), ShipmentCursors::ofShipmentItem);
+    }
+
+    /**
+     * Получает страницу поставок поставщика в порядке даты поставки.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param first      размер страницы.
+     * @param after      курсор последней прочитанной поставки.
+     * @return страница поставок.
+     */
+    @QueryMapping
+    public Connection<ShipmentHeaderDto> shipmentsConnection(@Argument UUID supplierId, @Argument int first,
+                                                             @Argument String after) {
+        return toConnection(shipmentService.getShipmentsPage(supplierId, first, after), ShipmentCursors::ofShipment);
+    }
+
+    /**
+     * Получает поставки поставщика за период.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param startDate  начальная дата периода.
+     * @param endDate    конечная дата периода.
+     * @param first      максимальное количество поставок.
+     * @return список поставок в порядке даты поставки.
+     */
+    @QueryMapping
+    public List<ShipmentHeaderDto> shipments(@Argument UUID supplierId, @Argument LocalDate startDate,
+                                             @Argument LocalDate endDate, @Argument int first) {
+        return shipmentGraphService.getShipments(supplierId, startDate, endDate, first);
+    }
+
+    /**
+     * Получает поставки по идентификаторам.
+     *
+     * @param ids идентификаторы поставок.
+     * @return список найденных поставок в порядке запроса.
+     */
+    @QueryMapping
+    public List<ShipmentHeaderDto> shipmentsByIds(@Argument List<UUID> ids) {
+        return shipmentGraphService.getShipmentsByIds(ids);
+    }
+
+    /**
+     * Загружает поставщиков для всех поставок ответа.
+     *
+     * @param shipments поставки.
+     * @return поставщики в порядке поставок.
+     */
+    @BatchMapping(typeName = "Shipment")
+    public List<SupplierDto> supplier(List<ShipmentHeaderDto> shipments) {
+        Map<UUID, SupplierDto> suppliers = shipmentGraphService.getSuppliers(shipments.stream()
+                .map(ShipmentHeaderDto::getSupplierId).distinct().toList());
+        return shipments.stream().map(shipment -> suppliers.get(shipment.getSupplierId())).toList();
+    }
+
+    /**
+     * Загружает товары поставки.
+     * <p>
+     * Запрошенные поля передаются загрузчику вместе с идентификатором поставки, и товары всех поставок
+     * ответа читаются одним запросом по объединению запрошенных полей.
+     *
+     * @param shipment    поставка.
+     * @param environment окружение выполнения поля.
+     * @return товары поставки.
+     */
+    @SchemaMapping(typeName = "Shipment")
+    public CompletableFuture<List<ShipmentItemReportGraphDto>> items(ShipmentHeaderDto shipment,
+                                                                     DataFetchingEnvironment environment) {
+        DataLoader<UUID, List<ShipmentItemReportGraphDto>> loader = environment.getDataLoader(SHIPMENT_ITEMS_LOADER);
+        return loader.load(shipment.getId(), requestedFields(environment.getSelectionSet()))
+                .thenApply(items -> items == null ? List.of() : items);
+    }
+
+    /**
+     * Загружает продукты для всех товарных позиций ответа.
+     *
+     * @param shipmentItems товарные позиции.
+     * @return продукты в порядке товарных позиций.
+     */
+    @BatchMapping
+    public List<ProductDto> product(List<ShipmentItemReportGraphDto> shipmentItems) {
+        Map<UUID, ProductDto> products = shipmentGraphService.getProducts(shipmentItems.stream()
+                .map(ShipmentItemReportGraphDto::getProductId).distinct().toList());
+        return shipmentItems.stream().map(shipmentItem -> products.get(shipmentItem.getProductId())).toList();
+    }
+
+    /**
+     * Определяет поля товара, запрошенные клиентом.
+     *
+     * @param selectionSet выбранные поля товарной позиции.
+     * @return запрошенные поля товара.
+     */
+    private static Set<ShipmentItemField> requestedFields(DataFetchingFieldSelectionSet selectionSet) {
+        return requestedFields(selectionSet, "");
+    }
+
+    /**
+     * Определяет поля товара, запрошенные клиентом по заданному пути.
+     *
+     * @param selectionSet выбранные поля.
+     * @param path         путь к товарной позиции в выбранных полях.
+     * @return запрошенные поля товара.
+     */
+    private static Set<ShipmentItemField> requestedFields(DataFetchingFieldSelectionSet selectionSet, String path) {
+        Set<ShipmentItemField> fields = EnumSet.noneOf(ShipmentItemField.class);
+        if (selectionSet.contains(path + "productId") || selectionSet.contains(path + "product")) {
+            fields.add(ShipmentItemField.PRODUCT_ID);
+        }
+        if (selectionSet.contains(path + "weightKg")) {
+            fields.add(ShipmentItemField.WEIGHT_KG);
+        }
+        if (selectionSet.contains(path + "pricePerKg")) {
+            fields.add(ShipmentItemField.PRICE_PER_KG);
+        }
+        if (selectionSet.contains(path + "totalPrice")) {
+            fields.add(ShipmentItemField.TOTAL_PRICE);
+        }
+        return fields;
+    }
+
+    /**
+     * Преобразует страницу в Relay-соединение с курсором у каждого ребра.
+     *
+     * @param page   страница.
+     * @param cursor построение курсора по элементу.
+     * @param <T>    тип элементов страницы.
+     * @return Relay-соединение.
+     */
+    private static <T> Connection<T> toConnection(CursorPageDto<T> page, Function<T, String> cursor) {
+        List<Edge<T>> edges = page.getItems().stream()
+                .<Edge<T>>map(item -> new DefaultEdge<>(item, new DefaultConnectionCursor(cursor.apply(item))))
+                .toList();
+        return new DefaultConnection<>(edges, new DefaultPageInfo(
+                edges.isEmpty() ? null : edges.getFirst().getCursor(),
+                edges.isEmpty() ? null : edges.getLast().getCursor(),
+                false, page.getNextCursor() != null));
+    }
+
+    /**
+     * Объединяет поля, запрошенные для товаров разных поставок.
+     *
+     * @param keyContexts наборы запрошенных полей, переданные загрузчику.
+     * @return объединение запрошенных полей.
+     */
+    @SuppressWarnings("unchecked")
+    private static Set<ShipmentItemField> requestedFields(List<Object> keyContexts) {
+        Set<ShipmentItemField> fields = EnumSet.noneOf(ShipmentItemField.class);
+        keyContexts.forEach(context -> fields.addAll((Set<ShipmentItemField>) context));
+        return fields;
     }
-}
\ No newline at end of file
+}
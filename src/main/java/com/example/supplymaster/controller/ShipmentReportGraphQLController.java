@@ -0,0 +1,36 @@
+package com.example.supplymaster.controller;
+
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
+import com.example.supplymaster.service.shipment.ShipmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * GraphQL-контроллер для получения отчетов о поставках за период.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ShipmentReportGraphQLController {
+    private final ShipmentService shipmentService;
+
+    /**
+     * Получает временные ряды поставок товаров за период.
+     *
+     * @param startDate   начальная дата периода.
+     * @param endDate     конечная дата периода.
+     * @param granularity шаг временного ряда.
+     * @return временные ряды по паре поставщик/товар.
+     */
+    @QueryMapping
+    public List<ShipmentSeriesDto> getShipmentsReportSeries(@Argument LocalDate startDate,
+                                                            @Argument LocalDate endDate,
+                                                            @Argument ShipmentReportGranularity granularity) {
+        return shipmentService.getShipmentsReportSeries(startDate, endDate, granularity);
+    }
+}
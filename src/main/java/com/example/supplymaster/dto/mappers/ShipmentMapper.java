@@ -1,11 +1,12 @@
 package com.example.supplymaster.dto.mappers;
 
+import com.example.supplymaster.dto.product.ProductDto;
 import com.example.supplymaster.dto.shipment.ResponseShipmentReportDto;
-import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
 import com.example.supplymaster.dto.shipment.ShipmentReportDto;
-import com.example.supplymaster.entity.ShipmentItem;
+import com.example.supplymaster.dto.supplier.SupplierDto;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Supplier;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
@@ -16,6 +17,7 @@ import org.mapstruct.ReportingPolicy;
 public interface ShipmentMapper {
     ResponseShipmentReportDto toResponseShipmentReportDto(ShipmentReportDto shipmentReportDto);
 
-    @Mapping(source = "product.id", target = "productId")
-    ShipmentItemReportGraphDto toGraphDto(ShipmentItem shipmentItem);
+    SupplierDto toSupplierDto(Supplier supplier);
+
+    ProductDto toProductDto(Product product);
 }
\ No newline at end of file
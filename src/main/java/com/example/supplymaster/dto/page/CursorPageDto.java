@@ -0,0 +1,23 @@
+package com.example.supplymaster.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO для представления страницы списка при постраничном чтении по курсору.
+ *
+ * @param <T> тип элементов страницы.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    /**
+     * Курсор для запроса следующей страницы или {@code null}, если страница последняя.
+     */
+    private String nextCursor;
+}
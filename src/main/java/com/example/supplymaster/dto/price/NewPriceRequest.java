@@ -1,6 +1,7 @@
 package com.example.supplymaster.dto.price;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -29,6 +30,7 @@ public class NewPriceRequest {
     private UUID productId;
     @NotNull
     @Positive
+    @Digits(integer = 8, fraction = 2)
     @Schema(description = "Цена за килограмм", example = "25.50")
     private BigDecimal pricePerKg;
     @NotNull
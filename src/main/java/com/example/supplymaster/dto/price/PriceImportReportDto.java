@@ -0,0 +1,25 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO для представления результата массового импорта цен.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Результат массового импорта цен")
+public class PriceImportReportDto {
+    @Schema(description = "Количество строк с данными в файле", example = "50000")
+    private int totalRows;
+    @Schema(description = "Количество сохранённых цен", example = "49998")
+    private int importedRows;
+    @Schema(description = "Отклонённые строки")
+    private List<RejectedPriceRowDto> rejectedRows = new ArrayList<>();
+}
@@ -0,0 +1,32 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для представления матрицы цен поставщик × продукт на дату.
+ * <p>
+ * Строка {@code i} списка {@code pricesPerKg} относится к поставщику {@code supplierIds[i]},
+ * столбец {@code j} — к продукту {@code productIds[j]}; при отсутствии цены элемент равен {@code null}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Матрица цен поставщик × продукт на дату")
+public class PriceMatrixDto {
+    @Schema(description = "Дата, на которую действуют цены", example = "2024-03-10")
+    private LocalDate date;
+    @Schema(description = "Идентификаторы поставщиков (строки матрицы)")
+    private List<UUID> supplierIds;
+    @Schema(description = "Идентификаторы продуктов (столбцы матрицы)")
+    private List<UUID> productIds;
+    @Schema(description = "Цены за килограмм по строкам поставщиков")
+    private List<List<BigDecimal>> pricesPerKg;
+}
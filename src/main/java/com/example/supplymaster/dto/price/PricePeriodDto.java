@@ -0,0 +1,24 @@
+package com.example.supplymaster.dto.price;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO для представления периода действия цены без загрузки связанных сущностей.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PricePeriodDto {
+    private UUID id;
+    private UUID supplierId;
+    private UUID productId;
+    private BigDecimal pricePerKg;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
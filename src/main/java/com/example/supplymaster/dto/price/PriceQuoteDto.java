@@ -0,0 +1,27 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для представления цен по списку сочетаний поставщик/продукт/дата.
+ * <p>
+ * Данные хранятся по колонкам: i-й элемент каждого списка относится к i-му элементу запроса,
+ * для сочетаний без цены элементы равны {@code null}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Цены по колонкам в порядке элементов запроса")
+public class PriceQuoteDto {
+    @Schema(description = "Идентификаторы найденных цен")
+    private List<UUID> priceIds;
+    @Schema(description = "Цены за килограмм")
+    private List<BigDecimal> pricesPerKg;
+}
@@ -0,0 +1,29 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO для запроса цены продукта поставщика на дату.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Сочетание поставщика, продукта и даты для определения цены")
+public class PriceQuoteItemRequest {
+    @NotNull
+    @Schema(description = "Идентификатор поставщика", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID supplierId;
+    @NotNull
+    @Schema(description = "Идентификатор продукта", example = "110e8400-e29b-41d4-a716-446655440000")
+    private UUID productId;
+    @NotNull
+    @Schema(description = "Дата, на которую требуется цена", example = "2024-03-10")
+    private LocalDate date;
+}
@@ -0,0 +1,31 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO для запроса цен по списку сочетаний поставщик/продукт/дата.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Запрос цен по списку сочетаний поставщик/продукт/дата")
+public class PriceQuoteRequest {
+    /**
+     * Максимальное количество сочетаний в одном запросе.
+     */
+    public static final int MAX_ITEMS = 10000;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    @Schema(description = "Сочетания, для которых требуется цена")
+    private List<@Valid PriceQuoteItemRequest> items = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.example.supplymaster.dto.price;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO для представления строки импорта цен, которая не была сохранена.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Отклонённая строка импорта цен")
+public class RejectedPriceRowDto {
+    @Schema(description = "Номер строки в файле", example = "42")
+    private long lineNumber;
+    @Schema(description = "Причина отклонения", example = "Период пересекается с существующей ценой")
+    private String reason;
+}
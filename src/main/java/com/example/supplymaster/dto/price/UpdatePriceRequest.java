@@ -1,6 +1,7 @@
 package com.example.supplymaster.dto.price;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,7 @@ import java.math.BigDecimal;
 public class UpdatePriceRequest {
     @NotNull
     @Positive
+    @Digits(integer = 8, fraction = 2)
     @Schema(description = "Новая цена за килограмм", example = "12.50")
     private BigDecimal pricePerKg;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO для запроса на пакетное создание отгрузок одного поставщика.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Запрос на пакетное создание отгрузок")
+public class NewShipmentBatchRequest {
+    @NotEmpty
+    @Size(max = 10000)
+    @Schema(description = "Список отгрузок")
+    private List<@Valid NewShipmentRequest> shipments = new ArrayList<>();
+}
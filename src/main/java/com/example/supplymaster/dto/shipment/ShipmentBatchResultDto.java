@@ -0,0 +1,24 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO для представления результата создания одной отгрузки из пакета.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Результат создания отгрузки из пакета")
+public class ShipmentBatchResultDto {
+    @Schema(description = "Порядковый номер отгрузки в запросе, начиная с нуля", example = "0")
+    private int index;
+    @Schema(description = "Идентификатор созданной отгрузки", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID shipmentId;
+    @Schema(description = "Причина, по которой отгрузка не создана", example = "Цена не найдена для продукта")
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.example.supplymaster.dto.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO для представления события о создании или изменении отгрузки.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShipmentEventDto {
+    private ShipmentEventType type;
+    private UUID shipmentId;
+    private UUID supplierId;
+    private LocalDate shipmentDate;
+}
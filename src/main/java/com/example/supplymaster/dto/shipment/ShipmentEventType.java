@@ -0,0 +1,18 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Тип события об отгрузке.
+ */
+@Schema(description = "Тип события об отгрузке")
+public enum ShipmentEventType {
+    /**
+     * Отгрузка создана.
+     */
+    CREATED,
+    /**
+     * Дата или товары отгрузки изменены.
+     */
+    UPDATED
+}
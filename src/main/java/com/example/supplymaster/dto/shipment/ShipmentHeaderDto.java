@@ -0,0 +1,20 @@
+package com.example.supplymaster.dto.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO для представления заголовка отгрузки без товаров.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShipmentHeaderDto {
+    private UUID id;
+    private UUID supplierId;
+    private LocalDate shipmentDate;
+}
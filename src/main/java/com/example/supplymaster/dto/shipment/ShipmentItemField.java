@@ -0,0 +1,25 @@
+package com.example.supplymaster.dto.shipment;
+
+/**
+ * Поле товара в отгрузке, запрашиваемое через GraphQL.
+ * <p>
+ * Из базы данных читаются только столбцы запрошенных полей.
+ */
+public enum ShipmentItemField {
+    /**
+     * Идентификатор продукта, нужен также для загрузки продукта.
+     */
+    PRODUCT_ID,
+    /**
+     * Вес товара в килограммах.
+     */
+    WEIGHT_KG,
+    /**
+     * Цена за килограмм.
+     */
+    PRICE_PER_KG,
+    /**
+     * Общая стоимость товара.
+     */
+    TOTAL_PRICE
+}
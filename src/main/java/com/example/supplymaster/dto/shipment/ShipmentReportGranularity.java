@@ -0,0 +1,31 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Шаг временного ряда отчета о поставках.
+ */
+@Schema(description = "Шаг временного ряда отчета о поставках")
+@Getter
+@RequiredArgsConstructor
+public enum ShipmentReportGranularity {
+    /**
+     * Итоги по дням.
+     */
+    DAY("day"),
+    /**
+     * Итоги по неделям, начиная с понедельника.
+     */
+    WEEK("week"),
+    /**
+     * Итоги по календарным месяцам.
+     */
+    MONTH("month");
+
+    /**
+     * Единица усечения даты для {@code date_trunc}.
+     */
+    private final String truncUnit;
+}
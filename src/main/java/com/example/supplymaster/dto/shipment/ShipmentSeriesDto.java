@@ -0,0 +1,22 @@
+package com.example.supplymaster.dto.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для представления временного ряда поставок товара поставщиком.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShipmentSeriesDto {
+    private UUID supplierId;
+    private String supplierName;
+    private UUID productId;
+    private String productName;
+    private List<ShipmentSeriesPointDto> points;
+}
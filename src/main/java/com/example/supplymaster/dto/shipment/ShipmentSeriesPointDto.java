@@ -0,0 +1,20 @@
+package com.example.supplymaster.dto.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO для представления итогов поставок товара за один шаг временного ряда.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShipmentSeriesPointDto {
+    private LocalDate periodStart;
+    private BigDecimal totalWeightKg;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,18 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Измерение, по которому строится рейтинг поставок.
+ */
+@Schema(description = "Измерение рейтинга поставок")
+public enum ShipmentTopDimension {
+    /**
+     * Рейтинг поставщиков.
+     */
+    SUPPLIER,
+    /**
+     * Рейтинг товаров по всем поставщикам.
+     */
+    PRODUCT
+}
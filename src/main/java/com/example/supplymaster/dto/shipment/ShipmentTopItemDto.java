@@ -0,0 +1,21 @@
+package com.example.supplymaster.dto.shipment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO для представления строки рейтинга поставщиков или товаров.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShipmentTopItemDto {
+    private UUID id;
+    private String name;
+    private BigDecimal totalWeightKg;
+    private BigDecimal totalPrice;
+}
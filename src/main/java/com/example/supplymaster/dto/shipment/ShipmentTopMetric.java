@@ -0,0 +1,18 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Показатель, по которому упорядочивается рейтинг поставок.
+ */
+@Schema(description = "Показатель рейтинга поставок")
+public enum ShipmentTopMetric {
+    /**
+     * Общий вес поставок.
+     */
+    WEIGHT,
+    /**
+     * Общая стоимость поставок.
+     */
+    REVENUE
+}
@@ -0,0 +1,18 @@
+package com.example.supplymaster.dto.shipment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Способ применения изменений к отгрузке.
+ */
+@Schema(description = "Способ обновления отгрузки")
+public enum ShipmentUpdateMode {
+    /**
+     * Отгрузка загружается целиком, вес товаров суммируется в приложении.
+     */
+    ENTITY,
+    /**
+     * Вес товаров добавляется одним SQL-запросом без загрузки отгрузки.
+     */
+    ATOMIC
+}
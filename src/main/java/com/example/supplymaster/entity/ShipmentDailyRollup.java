@@ -0,0 +1,33 @@
+package com.example.supplymaster.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Сущность, представляющая суммарный вес и стоимость продукта, поставленного поставщиком за день.
+ * <p>
+ * Строки поддерживаются при записи отгрузок и используются для построения отчетов.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "shipment_daily_rollup")
+public class ShipmentDailyRollup {
+    @EmbeddedId
+    private ShipmentDailyRollupKey id;
+
+    @NotNull
+    @Column(name = "weight_kg", nullable = false, precision = 19, scale = 2)
+    private BigDecimal weightKg;
+
+    @NotNull
+    @Column(name = "total_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,51 @@
+package com.example.supplymaster.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Ключ составного первичного ключа для сущности ShipmentDailyRollup.
+ */
+@Getter
+@Setter
+@Embeddable
+public class ShipmentDailyRollupKey implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2718472302913645117L;
+    @NotNull
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @NotNull
+    @Column(name = "supplier_id", nullable = false)
+    private UUID supplierId;
+
+    @NotNull
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        ShipmentDailyRollupKey entity = (ShipmentDailyRollupKey) o;
+        return Objects.equals(this.day, entity.day) &&
+                Objects.equals(this.supplierId, entity.supplierId) &&
+                Objects.equals(this.productId, entity.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, supplierId, productId);
+    }
+}
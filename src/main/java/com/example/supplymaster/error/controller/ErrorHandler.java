@@ -5,6 +5,8 @@ import com.example.supplymaster.error.exception.EntityNotFoundException;
 import com.example.supplymaster.error.exception.PriceConflictException;
 import com.example.supplymaster.error.exception.ValidationException;
 import com.example.supplymaster.error.model.ApiError;
+import com.example.supplymaster.util.ConstraintViolations;
+import com.example.supplymaster.util.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -102,6 +104,9 @@ public class ErrorHandler {
     @Operation(summary = "Обработчик ошибок целостности данных", description = "Возвращает ошибку, если нарушены ограничения базы данных")
     @ApiResponse(responseCode = "409", description = "Нарушение целостности данных")
     public ApiError handleDataIntegrityViolation(final DataIntegrityViolationException e) {
+        if (ConstraintViolations.isViolated(e, Constants.PRICES_NO_OVERLAP_CONSTRAINT)) {
+            return handlePriceConflict(new PriceConflictException(Constants.PRICE_PERIOD_EXISTS_MESSAGE));
+        }
         log.warn(e.getMessage());
         List<String> errors = new ArrayList<>();
         String errorMessage = "Data integrity violation occurred";
@@ -0,0 +1,13 @@
+package com.example.supplymaster.event;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+
+import java.util.List;
+
+/**
+ * Событие изменения цен, публикуемое сервисом цен после создания или обновления записей.
+ *
+ * @param prices актуальное состояние изменённых цен.
+ */
+public record PriceChangedEvent(List<PricePeriodDto> prices) {
+}
@@ -0,0 +1,12 @@
+package com.example.supplymaster.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Событие изменения отгрузок, публикуемое сервисами отгрузок после создания или обновления записей.
+ *
+ * @param shipmentDates даты отгрузок, итоги которых изменились, включая прежние даты перенесённых отгрузок.
+ */
+public record ShipmentChangedEvent(Set<LocalDate> shipmentDates) {
+}
@@ -0,0 +1,13 @@
+package com.example.supplymaster.event;
+
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+
+import java.util.List;
+
+/**
+ * Событие сохранения отгрузок, публикуемое сервисами отгрузок после создания или обновления записей.
+ *
+ * @param shipments созданные или изменённые отгрузки.
+ */
+public record ShipmentSavedEvent(List<ShipmentEventDto> shipments) {
+}
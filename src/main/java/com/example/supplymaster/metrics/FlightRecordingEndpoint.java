@@ -0,0 +1,127 @@
+package com.example.supplymaster.metrics;
+
+import com.example.supplymaster.config.FlightRecordingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Map;
+
+/**
+ * Эндпоинт Actuator для записи JFR по запросу.
+ * <p>
+ * Запись запускается с конфигурацией {@code supply-master.flight-recording.settings} и хранит события за
+ * последние {@code max-age}, поэтому её можно держать запущенной и выгружать сразу после всплеска задержек.
+ * Кроме событий JVM, в запись попадают события {@link ShipmentWriteJfrEvent} и {@link ReportJfrEvent}.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "flightrecording")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint implements DisposableBean {
+    private final FlightRecordingProperties properties;
+    private Recording recording;
+
+    /**
+     * Запускает запись, если она ещё не запущена.
+     *
+     * @return состояние записи.
+     * @throws IOException    если конфигурацию JFR не удалось прочитать.
+     * @throws ParseException если конфигурация JFR некорректна.
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start() throws IOException, ParseException {
+        if (recording == null) {
+            Recording newRecording = new Recording(Configuration.getConfiguration(properties.settings()));
+            newRecording.setName("supply-master");
+            newRecording.setMaxAge(properties.maxAge());
+            newRecording.setMaxSize(properties.maxSize().toBytes());
+            newRecording.setToDisk(true);
+            newRecording.start();
+            recording = newRecording;
+            log.info("Запись JFR запущена с конфигурацией {}", properties.settings());
+        }
+        return Map.of("state", recording.getState().name(), "startTime", recording.getStartTime().toString(),
+                "size", recording.getSize());
+    }
+
+    /**
+     * Выгружает события записи в файл JFR, не останавливая её.
+     *
+     * @return файл записи или ответ 404, если запись не запущена.
+     * @throws IOException если запись не удалось выгрузить.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump() throws IOException {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("supply-master-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    /**
+     * Останавливает запись и удаляет её данные.
+     */
+    @DeleteOperation
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("Запись JFR остановлена");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    /**
+     * Временный файл, удаляемый после чтения.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+        private final Path file;
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+    }
+}
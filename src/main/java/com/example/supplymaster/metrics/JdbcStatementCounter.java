@@ -0,0 +1,82 @@
+package com.example.supplymaster.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Счётчик выполненных JDBC-запросов и времени их выполнения в текущем потоке.
+ * <p>
+ * Подключается к источнику данных как слушатель datasource-proxy и накапливает значения в объекте потока,
+ * поэтому учет запроса не требует синхронизации и выделения памяти. Чтобы получить значения для участка
+ * кода, достаточно сравнить {@link Stats} до и после него. Запросы, выполненные в других потоках, в счётчик
+ * текущего потока попадают, только если код, запустивший эти потоки, добавит их через {@link Stats#add}.
+ */
+public class JdbcStatementCounter implements QueryExecutionListener {
+    private static final ThreadLocal<Stats> STATS = ThreadLocal.withInitial(Stats::new);
+
+    /**
+     * Возвращает накопленные значения текущего потока.
+     *
+     * @return значения текущего потока.
+     */
+    public static Stats current() {
+        return STATS.get();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        STATS.get().startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Stats stats = STATS.get();
+        stats.statements++;
+        stats.nanos += System.nanoTime() - stats.startedAt;
+    }
+
+    /**
+     * Накопленные значения потока.
+     */
+    public static final class Stats {
+        private long statements;
+        private long nanos;
+        private long startedAt;
+
+        private Stats() {
+        }
+
+        /**
+         * Возвращает количество выполненных запросов.
+         *
+         * @return количество выполненных запросов.
+         */
+        public long statements() {
+            return statements;
+        }
+
+        /**
+         * Возвращает суммарное время выполнения запросов.
+         *
+         * @return суммарное время выполнения запросов в наносекундах.
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * Добавляет запросы, выполненные по поручению потока в других потоках, например при построении
+         * отчета по частям. Время запросов таких потоков суммируется и может превышать длительность операции.
+         *
+         * @param statements количество запросов.
+         * @param nanos      суммарное время запросов в наносекундах.
+         */
+        public void add(long statements, long nanos) {
+            this.statements += statements;
+            this.nanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.supplymaster.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.time.LocalDate;
+
+/**
+ * Событие JFR о построении отчета.
+ * <p>
+ * Как и {@link ShipmentWriteJfrEvent}, выключенное событие не обращается к часам и не выделяет память.
+ */
+@Name("com.example.supplymaster.Report")
+@Label("Report")
+@Category({"Supply Master", "Reports"})
+@Description("Построение отчета за период")
+@StackTrace(false)
+public class ReportJfrEvent extends Event {
+
+    @Label("Report")
+    private String report;
+
+    @Label("Start Date")
+    private String startDate;
+
+    @Label("End Date")
+    private String endDate;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Aggregation Time")
+    @Description("Время агрегации данных отчета в базе данных")
+    @Timespan
+    private long aggregationTime;
+
+    @Label("Assembly Time")
+    @Description("Время преобразования агрегированных данных в DTO отчета")
+    @Timespan
+    private long assemblyTime;
+
+    private transient long phaseStart;
+
+    /**
+     * Создает событие и начинает отсчет его длительности.
+     *
+     * @return событие.
+     */
+    public static ReportJfrEvent start() {
+        ReportJfrEvent event = new ReportJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    public void aggregationStarted() {
+        if (isEnabled()) {
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    public void aggregationFinished() {
+        if (isEnabled()) {
+            aggregationTime = System.nanoTime() - phaseStart;
+        }
+    }
+
+    public void assemblyStarted() {
+        if (isEnabled()) {
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    public void assemblyFinished() {
+        if (isEnabled()) {
+            assemblyTime = System.nanoTime() - phaseStart;
+        }
+    }
+
+    /**
+     * Записывает событие, если оно включено и превышает порог длительности.
+     *
+     * @param report    название отчета.
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param rowCount  количество строк отчета.
+     */
+    public void commit(String report, LocalDate startDate, LocalDate endDate, int rowCount) {
+        if (shouldCommit()) {
+            this.report = report;
+            this.startDate = startDate.toString();
+            this.endDate = endDate.toString();
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.supplymaster.metrics;
+
+import com.example.supplymaster.config.RequestTimingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фильтр учета этапов обработки HTTP-запросов REST API и GraphQL.
+ * <p>
+ * На время каждой обработки запроса, включая асинхронные, к потоку привязывается {@link RequestTimings}, а время
+ * JDBC-запросов потока берется из {@link JdbcStatementCounter}. Если в запросе есть диагностический заголовок,
+ * тело ответа буферизуется, чтобы заголовок {@code Server-Timing} включал и время сериализации; потоковые ответы
+ * при этом не буферизуются и заголовка не получают. Без диагностического заголовка время этапов записывается
+ * в метрику {@code http.server.phase}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String TIMINGS_ATTRIBUTE = RequestTimingFilter.class.getName() + ".TIMINGS";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RequestTimingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.pathPrefixes().stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+        if (timings == null) {
+            timings = new RequestTimings();
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+        }
+        boolean diagnostic = request.getHeader(properties.diagnosticHeader()) != null;
+        HttpServletResponse responseToUse = response;
+        if (diagnostic && WebUtils.getNativeResponse(response, BufferingResponseWrapper.class) == null) {
+            responseToUse = new BufferingResponseWrapper(request, response);
+        }
+
+        JdbcStatementCounter.Stats stats = JdbcStatementCounter.current();
+        long startStatementNanos = stats.nanos();
+        RequestTimings previous = RequestTimings.bind(timings);
+        try {
+            filterChain.doFilter(request, responseToUse);
+        } finally {
+            RequestTimings.bind(previous);
+            timings.add(RequestTimings.Phase.DB, stats.nanos() - startStatementNanos);
+            if (!request.isAsyncStarted()) {
+                complete(request, responseToUse, timings, diagnostic);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, RequestTimings timings,
+                          boolean diagnostic) throws IOException {
+        BufferingResponseWrapper bufferingResponse = WebUtils.getNativeResponse(response,
+                BufferingResponseWrapper.class);
+        if (diagnostic && bufferingResponse != null) {
+            bufferingResponse.setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+            bufferingResponse.copyBodyToResponse();
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Timer[] uriTimers = timers.computeIfAbsent(pattern == null ? UNKNOWN_URI : pattern.toString(),
+                this::registerTimers);
+        for (RequestTimings.Phase phase : RequestTimings.Phase.values()) {
+            uriTimers[phase.ordinal()].record(timings.nanos(phase), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] registerTimers(String uri) {
+        RequestTimings.Phase[] phases = RequestTimings.Phase.values();
+        Timer[] uriTimers = new Timer[phases.length];
+        for (RequestTimings.Phase phase : phases) {
+            uriTimers[phase.ordinal()] = Timer.builder("http.server.phase")
+                    .description("Время этапа обработки HTTP-запроса")
+                    .tags("uri", uri, "phase", phase.getMetricName())
+                    .register(meterRegistry);
+        }
+        return uriTimers;
+    }
+
+    /**
+     * Буферизует тело ответа до завершения обработки запроса.
+     * <p>
+     * Ответы, которые пишутся во время асинхронной обработки (Server-Sent Events, потоковая выгрузка),
+     * передаются клиенту сразу.
+     */
+    private static final class BufferingResponseWrapper extends ContentCachingResponseWrapper {
+        private final HttpServletRequest request;
+
+        private BufferingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return request.isAsyncStarted() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return request.isAsyncStarted() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (request.isAsyncStarted()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
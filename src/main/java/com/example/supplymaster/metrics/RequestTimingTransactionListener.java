@@ -0,0 +1,26 @@
+package com.example.supplymaster.metrics;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Отмечает фиксацию транзакций как этап {@link RequestTimings.Phase#COMMIT}.
+ * <p>
+ * Регистрируется в менеджере транзакций автоматически. Фиксация включает сброс изменений Hibernate, поэтому
+ * выполненные при ней JDBC-запросы учитываются и в этапе {@link RequestTimings.Phase#DB}.
+ */
+@Component
+public class RequestTimingTransactionListener implements TransactionExecutionListener {
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        RequestTimings.start(RequestTimings.Phase.COMMIT);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        RequestTimings.stop(RequestTimings.Phase.COMMIT);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.supplymaster.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Время этапов обработки HTTP-запроса.
+ * <p>
+ * Объект создается {@link RequestTimingFilter} и на время обработки запроса привязывается к потоку, поэтому
+ * этапы отмечаются статическими методами без передачи объекта через вызовы. Вне запроса, например в потоках
+ * параллельного построения отчета, отметки игнорируются. Вложенные отметки одного этапа учитываются один раз.
+ */
+public final class RequestTimings {
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[Phase.values().length];
+    private final long[] startedAt = new long[Phase.values().length];
+    private final int[] depth = new int[Phase.values().length];
+
+    /**
+     * Начинает отсчет этапа в текущем запросе.
+     *
+     * @param phase этап.
+     */
+    public static void start(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.depth[phase.ordinal()]++ == 0) {
+            timings.startedAt[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Завершает отсчет этапа в текущем запросе.
+     *
+     * @param phase этап.
+     */
+    public static void stop(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.depth[phase.ordinal()] > 0 && --timings.depth[phase.ordinal()] == 0) {
+            timings.nanos[phase.ordinal()] += System.nanoTime() - timings.startedAt[phase.ordinal()];
+        }
+    }
+
+    /**
+     * Привязывает время этапов к текущему потоку.
+     *
+     * @param timings время этапов или {@code null}, чтобы отвязать.
+     * @return ранее привязанное время этапов.
+     */
+    static RequestTimings bind(RequestTimings timings) {
+        RequestTimings previous = CURRENT.get();
+        if (timings == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timings);
+        }
+        return previous;
+    }
+
+    void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Возвращает значение заголовка {@code Server-Timing} с длительностью этапов в миллисекундах.
+     *
+     * @return значение заголовка.
+     */
+    String toServerTiming() {
+        StringJoiner header = new StringJoiner(", ");
+        for (Phase phase : Phase.values()) {
+            header.add(String.format(Locale.ROOT, "%s;dur=%.3f", phase.getMetricName(), nanos(phase) / 1_000_000.0));
+        }
+        return header.toString();
+    }
+
+    /**
+     * Этап обработки запроса.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+        /**
+         * JDBC-запросы, включая запросы, выполненные при фиксации транзакции.
+         */
+        DB("db"),
+        /**
+         * Преобразование объектов мапперами.
+         */
+        MAPPING("mapping"),
+        /**
+         * Запись тела ответа в JSON.
+         */
+        SERIALIZATION("serialization"),
+        /**
+         * Фиксация транзакций.
+         */
+        COMMIT("commit");
+
+        /**
+         * Название этапа в заголовке {@code Server-Timing} и в теге метрики.
+         */
+        private final String metricName;
+    }
+}
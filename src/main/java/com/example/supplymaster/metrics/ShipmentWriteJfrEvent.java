@@ -0,0 +1,98 @@
+package com.example.supplymaster.metrics;
+
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.UUID;
+
+/**
+ * Событие JFR о создании или изменении отгрузки.
+ * <p>
+ * Пока событие не включено в записи JFR, методы отметки этапов не обращаются к часам, а объект события
+ * не покидает метод и устраняется JIT-компилятором, поэтому выключенное событие ничего не стоит.
+ */
+@Name("com.example.supplymaster.ShipmentWrite")
+@Label("Shipment Write")
+@Category({"Supply Master", "Shipments"})
+@Description("Создание или изменение отгрузки")
+@StackTrace(false)
+public class ShipmentWriteJfrEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Supplier Id")
+    private String supplierId;
+
+    @Label("Item Count")
+    private int itemCount;
+
+    @Label("Resolution Time")
+    @Description("Время получения продуктов и цен")
+    @Timespan
+    private long resolutionTime;
+
+    @Label("Persist Time")
+    @Description("Время записи отгрузки и дневных итогов")
+    @Timespan
+    private long persistTime;
+
+    private transient long phaseStart;
+
+    /**
+     * Создает событие и начинает отсчет его длительности.
+     *
+     * @return событие.
+     */
+    public static ShipmentWriteJfrEvent start() {
+        ShipmentWriteJfrEvent event = new ShipmentWriteJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    public void resolutionStarted() {
+        if (isEnabled()) {
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    public void resolutionFinished() {
+        if (isEnabled()) {
+            resolutionTime = System.nanoTime() - phaseStart;
+        }
+    }
+
+    public void persistStarted() {
+        if (isEnabled()) {
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    public void persistFinished() {
+        if (isEnabled()) {
+            persistTime = System.nanoTime() - phaseStart;
+        }
+    }
+
+    /**
+     * Записывает событие, если оно включено и превышает порог длительности.
+     *
+     * @param type       вид изменения отгрузки.
+     * @param supplierId идентификатор поставщика.
+     * @param itemCount  количество товаров в отгрузке.
+     */
+    public void commit(ShipmentEventType type, UUID supplierId, int itemCount) {
+        if (shouldCommit()) {
+            this.operation = type.name();
+            this.supplierId = supplierId.toString();
+            this.itemCount = itemCount;
+            commit();
+        }
+    }
+}
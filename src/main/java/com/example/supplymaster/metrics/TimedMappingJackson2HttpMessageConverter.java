@@ -0,0 +1,33 @@
+package com.example.supplymaster.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Конвертер JSON, отмечающий время записи тела ответа как этап {@link RequestTimings.Phase#SERIALIZATION}.
+ * <p>
+ * Заменяет стандартный конвертер, поэтому учитываются и ответы контроллеров REST, и ответы GraphQL.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings.start(RequestTimings.Phase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.SERIALIZATION);
+        }
+    }
+}
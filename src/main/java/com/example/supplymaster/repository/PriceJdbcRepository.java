@@ -0,0 +1,39 @@
+package com.example.supplymaster.repository;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Репозиторий для пакетной записи цен через JDBC в обход контекста персистентности.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceJdbcRepository {
+    private static final String INSERT_PRICE = """
+            INSERT INTO prices (id, supplier_id, product_id, price_per_kg, start_date, end_date)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Сохраняет цены пакетами JDBC.
+     *
+     * @param prices    периоды цен с назначенными идентификаторами.
+     * @param batchSize количество строк в одном пакете.
+     */
+    public void batchInsert(List<PricePeriodDto> prices, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_PRICE, prices, batchSize, (ps, price) -> {
+            ps.setObject(1, price.getId());
+            ps.setObject(2, price.getSupplierId());
+            ps.setObject(3, price.getProductId());
+            ps.setBigDecimal(4, price.getPricePerKg());
+            ps.setObject(5, price.getStartDate());
+            ps.setObject(6, price.getEndDate());
+        });
+    }
+}
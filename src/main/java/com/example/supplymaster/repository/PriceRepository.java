@@ -1,5 +1,6 @@
 package com.example.supplymaster.repository;
 
+import com.example.supplymaster.dto.price.PricePeriodDto;
 import com.example.supplymaster.entity.Price;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -18,44 +19,88 @@ import java.util.UUID;
 public interface PriceRepository extends JpaRepository<Price, UUID> {
 
     /**
-     * Проверяет, существует ли пересечение ценовых диапазонов для заданного поставщика и продукта.
+     * Находит актуальные цены для списка продуктов поставщика на указанную дату отгрузки.
      *
-     * @param supplierId ID поставщика.
-     * @param productId  ID продукта.
-     * @param startDate  Дата начала нового ценового диапазона.
-     * @param endDate    Дата окончания нового ценового диапазона.
-     * @return {@code true}, если пересечений нет, иначе {@code false}.
+     * @param supplierId   ID поставщика.
+     * @param productIds   Список ID продуктов.
+     * @param shipmentDate Дата отгрузки.
+     * @return Список периодов цен, действующих на указанную дату отгрузки.
      */
     @Query("""
-            SELECT CASE WHEN COUNT(p) > 0 THEN false ELSE true END
+            SELECT new com.example.supplymaster.dto.price.PricePeriodDto(
+                p.id, p.supplier.id, p.product.id, p.pricePerKg, p.startDate, p.endDate)
             FROM Price p
             WHERE p.supplier.id = :supplierId
-              AND p.product.id = :productId
-              AND (:startDate BETWEEN p.startDate AND p.endDate
-                OR :endDate BETWEEN p.startDate AND p.endDate
-                OR p.startDate BETWEEN :startDate AND :endDate)
+              AND p.product.id IN :productId
+              AND :shipmentDate BETWEEN p.startDate AND p.endDate
             """)
-    boolean checkIsNoIntersectionTime(@Param("supplierId") UUID supplierId,
-                                      @Param("productId") UUID productId,
-                                      @Param("startDate") LocalDate startDate,
-                                      @Param("endDate") LocalDate endDate);
+    List<PricePeriodDto> findPriceForSupplierProducts(@Param("supplierId") UUID supplierId,
+                                                      @Param("productId") Set<UUID> productIds,
+                                                      @Param("shipmentDate") LocalDate shipmentDate);
 
     /**
-     * Находит актуальные цены для списка продуктов поставщика на указанную дату отгрузки.
+     * Получает все периоды цен без загрузки связанных сущностей.
      *
-     * @param supplierId   ID поставщика.
-     * @param productIds   Список ID продуктов.
-     * @param shipmentDate Дата отгрузки.
-     * @return Список цен, действующих на указанную дату отгрузки.
+     * @return Список периодов цен.
      */
     @Query("""
-            SELECT p
+            SELECT new com.example.supplymaster.dto.price.PricePeriodDto(
+                p.id, p.supplier.id, p.product.id, p.pricePerKg, p.startDate, p.endDate)
             FROM Price p
-            WHERE p.supplier.id = :supplierId
-              AND p.product.id IN :productId
-              AND :shipmentDate BETWEEN p.startDate AND p.endDate
             """)
-    List<Price> findPriceForSupplierProducts(@Param("supplierId") UUID supplierId,
-                                             @Param("productId") Set<UUID> productIds,
-                                             @Param("shipmentDate") LocalDate shipmentDate);
+    List<PricePeriodDto> findAllPeriods();
+
+    /**
+     * Получает периоды цен для всех сочетаний указанных поставщиков и продуктов.
+     *
+     * @param supplierIds Список ID поставщиков.
+     * @param productIds  Список ID продуктов.
+     * @return Список периодов цен.
+     */
+    @Query("""
+            SELECT new com.example.supplymaster.dto.price.PricePeriodDto(
+                p.id, p.supplier.id, p.product.id, p.pricePerKg, p.startDate, p.endDate)
+            FROM Price p
+            WHERE p.supplier.id IN :supplierIds
+              AND p.product.id IN :productIds
+            """)
+    List<PricePeriodDto> findPeriodsForSuppliersAndProducts(@Param("supplierIds") Set<UUID> supplierIds,
+                                                            @Param("productIds") Set<UUID> productIds);
+
+    /**
+     * Получает периоды цен указанных поставщиков и продуктов, пересекающиеся с интервалом дат.
+     *
+     * @param supplierIds Список ID поставщиков.
+     * @param productIds  Список ID продуктов.
+     * @param startDate   Начало интервала дат.
+     * @param endDate     Окончание интервала дат.
+     * @return Список периодов цен.
+     */
+    @Query("""
+            SELECT new com.example.supplymaster.dto.price.PricePeriodDto(
+                p.id, p.supplier.id, p.product.id, p.pricePerKg, p.startDate, p.endDate)
+            FROM Price p
+            WHERE p.supplier.id IN :supplierIds
+              AND p.product.id IN :productIds
+              AND p.startDate <= :endDate
+              AND p.endDate >= :startDate
+            """)
+    List<PricePeriodDto> findPeriodsForSuppliersAndProductsBetween(@Param("supplierIds") Set<UUID> supplierIds,
+                                                                   @Param("productIds") Set<UUID> productIds,
+                                                                   @Param("startDate") LocalDate startDate,
+                                                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Получает периоды цен, действующие на указанную дату.
+     *
+     * @param date Дата.
+     * @return Список периодов цен.
+     */
+    @Query("""
+            SELECT new com.example.supplymaster.dto.price.PricePeriodDto(
+                p.id, p.supplier.id, p.product.id, p.pricePerKg, p.startDate, p.endDate)
+            FROM Price p
+            WHERE :date BETWEEN p.startDate AND p.endDate
+            """)
+    List<PricePeriodDto> findPeriodsValidOn(@Param("date") LocalDate date);
 }
\ No newline at end of file
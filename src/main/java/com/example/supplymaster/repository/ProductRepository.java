@@ -2,8 +2,12 @@ package com.example.supplymaster.repository;
 
 import com.example.supplymaster.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +15,13 @@ import java.util.UUID;
  */
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
+
+    /**
+     * Возвращает идентификаторы существующих продуктов из переданных.
+     *
+     * @param productIds идентификаторы продуктов
+     * @return идентификаторы найденных продуктов
+     */
+    @Query("select p.id from Product p where p.id in :productIds")
+    List<UUID> findExistingIds(@Param("productIds") Collection<UUID> productIds);
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.supplymaster.repository;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.entity.ShipmentDailyRollup;
+import com.example.supplymaster.entity.ShipmentDailyRollupKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Репозиторий для работы с сущностью {@link ShipmentDailyRollup}.
+ */
+@Repository
+public interface ShipmentDailyRollupRepository extends JpaRepository<ShipmentDailyRollup, ShipmentDailyRollupKey> {
+
+    /**
+     * Получает сводную информацию об отгрузках товаров за указанный период по дневным итогам.
+     *
+     * @param startDate начальная дата периода
+     * @param endDate   конечная дата периода
+     * @return список DTO {@link ShipmentItemDto}, содержащих информацию о поставщиках, товарах, общем весе и стоимости
+     */
+    @Query("""
+                SELECT new com.example.supplymaster.dto.shipment.ShipmentItemDto(
+                    sup.id,
+                    sup.name,
+                    p.id,
+                    p.name,
+                    SUM(r.weightKg),
+                    SUM(r.totalPrice)
+                )
+                FROM ShipmentDailyRollup r
+                JOIN Supplier sup ON sup.id = r.id.supplierId
+                JOIN Product p ON p.id = r.id.productId
+                WHERE r.id.day BETWEEN :startDate AND :endDate
+                GROUP BY sup.id, sup.name, p.id, p.name
+            """)
+    List<ShipmentItemDto> getProductShipmentSummary(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * Возвращает поток сводной информации об отгрузках товаров за указанный период, упорядоченный
+     * по поставщикам.
+     * <p>
+     * Строки читаются из базы данных порциями по мере обхода потока. Поток должен использоваться внутри
+     * транзакции и закрываться после обхода.
+     *
+     * @param startDate начальная дата периода
+     * @param endDate   конечная дата периода
+     * @return поток DTO {@link ShipmentItemDto}, сгруппированных по поставщику
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT new com.example.supplymaster.dto.shipment.ShipmentItemDto(
+                    sup.id,
+                    sup.name,
+                    p.id,
+                    p.name,
+                    SUM(r.weightKg),
+                    SUM(r.totalPrice)
+                )
+                FROM ShipmentDailyRollup r
+                JOIN Supplier sup ON sup.id = r.id.supplierId
+                JOIN Product p ON p.id = r.id.productId
+                WHERE r.id.day BETWEEN :startDate AND :endDate
+                GROUP BY sup.id, sup.name, p.id, p.name
+                ORDER BY sup.name, sup.id, p.name, p.id
+            """)
+    Stream<ShipmentItemDto> streamProductShipmentSummary(@Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+}
\ No newline at end of file
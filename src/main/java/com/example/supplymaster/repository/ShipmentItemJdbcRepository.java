@@ -0,0 +1,180 @@
+package com.example.supplymaster.repository;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Репозиторий для изменения и чтения товаров отгрузки через JDBC в обход контекста персистентности.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentItemJdbcRepository {
+    private static final String UPSERT_SHIPMENT_ITEMS = """
+            INSERT INTO shipment_items (shipment_id, product_id, weight_kg, price_per_kg, total_price)
+            SELECT ?, item.product_id, item.weight_kg, item.price_per_kg, item.weight_kg * item.price_per_kg
+            FROM unnest(?::uuid[], ?::numeric[], ?::numeric[]) AS item(product_id, weight_kg, price_per_kg)
+            ON CONFLICT (shipment_id, product_id) DO UPDATE
+            SET weight_kg = shipment_items.weight_kg + EXCLUDED.weight_kg,
+                total_price = shipment_items.price_per_kg * (shipment_items.weight_kg + EXCLUDED.weight_kg)
+            """;
+    private static final String SELECT_PROJECTION = """
+            SELECT shipment_id%s
+            FROM shipment_items
+            WHERE shipment_id = ANY (?)
+            ORDER BY shipment_id, product_id
+            """;
+    private static final String SELECT_FIRST_PAGE = """
+            SELECT product_id%s
+            FROM shipment_items
+            WHERE shipment_id = ?
+            ORDER BY product_id
+            LIMIT ?
+            """;
+    private static final String SELECT_NEXT_PAGE = """
+            SELECT product_id%s
+            FROM shipment_items
+            WHERE shipment_id = ?
+              AND product_id > ?
+            ORDER BY product_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Добавляет вес товарам отгрузки одним запросом.
+     * <p>
+     * Отсутствующие товары создаются с переданной ценой, у существующих вес увеличивается, а стоимость
+     * пересчитывается по ранее зафиксированной цене.
+     *
+     * @param shipmentId идентификатор отгрузки.
+     * @param weights    добавляемый вес по идентификатору продукта.
+     * @param prices     цены за килограмм по идентификатору продукта.
+     * @return количество вставленных или обновленных строк.
+     */
+    public int addWeights(UUID shipmentId, Map<UUID, BigDecimal> weights, Map<UUID, BigDecimal> prices) {
+        UUID[] productIds = weights.keySet().toArray(UUID[]::new);
+        BigDecimal[] weightKgs = new BigDecimal[productIds.length];
+        BigDecimal[] pricesPerKg = new BigDecimal[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            weightKgs[i] = weights.get(productIds[i]);
+            pricesPerKg[i] = prices.get(productIds[i]);
+        }
+        return jdbcTemplate.update(UPSERT_SHIPMENT_ITEMS, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setObject(1, shipmentId);
+            ps.setArray(2, connection.createArrayOf("uuid", productIds));
+            ps.setArray(3, connection.createArrayOf("numeric", weightKgs));
+            ps.setArray(4, connection.createArrayOf("numeric", pricesPerKg));
+        });
+    }
+
+    /**
+     * Получает товары нескольких отгрузок, читая только столбцы запрошенных полей.
+     * <p>
+     * Строки не загружаются как сущности и не отслеживаются контекстом персистентности; незапрошенные поля
+     * DTO остаются пустыми.
+     *
+     * @param shipmentIds идентификаторы отгрузок.
+     * @param fields      запрошенные поля товара.
+     * @return Map товаров по идентификатору отгрузки.
+     */
+    public Map<UUID, List<ShipmentItemReportGraphDto>> findProjections(Collection<UUID> shipmentIds,
+                                                                       Set<ShipmentItemField> fields) {
+        Map<UUID, List<ShipmentItemReportGraphDto>> items = new HashMap<>();
+        if (shipmentIds.isEmpty()) {
+            return items;
+        }
+        String columns = columns(fields);
+        UUID[] ids = shipmentIds.toArray(UUID[]::new);
+        jdbcTemplate.query(SELECT_PROJECTION.formatted(columns),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+                rs -> {
+                    items.computeIfAbsent(rs.getObject("shipment_id", UUID.class), id -> new ArrayList<>())
+                            .add(toGraphDto(rs, fields));
+                });
+        return items;
+    }
+
+    /**
+     * Получает страницу товаров отгрузки в порядке идентификатора продукта, читая только столбцы запрошенных
+     * полей.
+     * <p>
+     * Страница читается по первичному ключу (shipment_id, product_id) начиная с продукта после курсора,
+     * без пропуска предыдущих строк. Идентификатор продукта читается всегда, так как он служит курсором.
+     *
+     * @param shipmentId     идентификатор отгрузки.
+     * @param afterProductId идентификатор последнего прочитанного продукта или {@code null} для первой страницы.
+     * @param limit          максимальное количество товаров.
+     * @param fields         запрошенные поля товара.
+     * @return список товаров отгрузки.
+     */
+    public List<ShipmentItemReportGraphDto> findPage(UUID shipmentId, UUID afterProductId, int limit,
+                                                     Set<ShipmentItemField> fields) {
+        Set<ShipmentItemField> selected = EnumSet.of(ShipmentItemField.PRODUCT_ID);
+        selected.addAll(fields);
+        Set<ShipmentItemField> otherFields = EnumSet.copyOf(selected);
+        otherFields.remove(ShipmentItemField.PRODUCT_ID);
+        String columns = columns(otherFields);
+        RowMapper<ShipmentItemReportGraphDto> mapper = (rs, rowNum) -> toGraphDto(rs, selected);
+        if (afterProductId == null) {
+            return jdbcTemplate.query(SELECT_FIRST_PAGE.formatted(columns), mapper, shipmentId, limit);
+        }
+        return jdbcTemplate.query(SELECT_NEXT_PAGE.formatted(columns), mapper, shipmentId, afterProductId, limit);
+    }
+
+    private ShipmentItemReportGraphDto toGraphDto(ResultSet rs, Set<ShipmentItemField> fields) throws SQLException {
+        ShipmentItemReportGraphDto item = new ShipmentItemReportGraphDto();
+        if (fields.contains(ShipmentItemField.PRODUCT_ID)) {
+            item.setProductId(rs.getObject("product_id", UUID.class));
+        }
+        if (fields.contains(ShipmentItemField.WEIGHT_KG)) {
+            item.setWeightKg(toFloat(rs.getBigDecimal("weight_kg")));
+        }
+        if (fields.contains(ShipmentItemField.PRICE_PER_KG)) {
+            item.setPricePerKg(toFloat(rs.getBigDecimal("price_per_kg")));
+        }
+        if (fields.contains(ShipmentItemField.TOTAL_PRICE)) {
+            item.setTotalPrice(toFloat(rs.getBigDecimal("total_price")));
+        }
+        return item;
+    }
+
+    private static String columns(Set<ShipmentItemField> fields) {
+        return fields.stream()
+                .sorted()
+                .map(field -> ", " + column(field))
+                .collect(Collectors.joining());
+    }
+
+    private static String column(ShipmentItemField field) {
+        return switch (field) {
+            case PRODUCT_ID -> "product_id";
+            case WEIGHT_KG -> "weight_kg";
+            case PRICE_PER_KG -> "price_per_kg";
+            case TOTAL_PRICE -> "total_price";
+        };
+    }
+
+    private static Float toFloat(BigDecimal value) {
+        return value == null ? null : value.floatValue();
+    }
+}
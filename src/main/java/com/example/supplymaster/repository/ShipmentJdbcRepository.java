@@ -0,0 +1,61 @@
+package com.example.supplymaster.repository;
+
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Репозиторий для чтения отгрузок через JDBC.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentJdbcRepository {
+    private static final String FIRST_PAGE = """
+            SELECT id, supplier_id, shipment_date
+            FROM shipments
+            WHERE supplier_id = ?
+            ORDER BY shipment_date, id
+            LIMIT ?
+            """;
+    private static final String NEXT_PAGE = """
+            SELECT id, supplier_id, shipment_date
+            FROM shipments
+            WHERE supplier_id = ?
+              AND (shipment_date, id) > (?, ?)
+            ORDER BY shipment_date, id
+            LIMIT ?
+            """;
+    private static final RowMapper<ShipmentHeaderDto> HEADER_MAPPER = (rs, rowNum) -> new ShipmentHeaderDto(
+            rs.getObject("id", UUID.class), rs.getObject("supplier_id", UUID.class),
+            rs.getDate("shipment_date").toLocalDate());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Получает страницу заголовков отгрузок поставщика в порядке даты и идентификатора отгрузки.
+     * <p>
+     * Страница читается по индексу (supplier_id, shipment_date, id) начиная с позиции после последней
+     * прочитанной отгрузки, без пропуска предыдущих строк.
+     *
+     * @param supplierId        идентификатор поставщика.
+     * @param afterShipmentDate дата последней прочитанной отгрузки или {@code null} для первой страницы.
+     * @param afterShipmentId   идентификатор последней прочитанной отгрузки или {@code null} для первой страницы.
+     * @param limit             максимальное количество отгрузок.
+     * @return список заголовков отгрузок.
+     */
+    public List<ShipmentHeaderDto> findHeadersPage(UUID supplierId, LocalDate afterShipmentDate, UUID afterShipmentId,
+                                                   int limit) {
+        if (afterShipmentDate == null) {
+            return jdbcTemplate.query(FIRST_PAGE, HEADER_MAPPER, supplierId, limit);
+        }
+        return jdbcTemplate.query(NEXT_PAGE, HEADER_MAPPER, supplierId, Date.valueOf(afterShipmentDate),
+                afterShipmentId, limit);
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.supplymaster.repository;
 
-import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
 import com.example.supplymaster.entity.Shipment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,42 +22,83 @@ import java.util.UUID;
 public interface ShipmentRepository extends JpaRepository<Shipment, UUID> {
 
     /**
-     * Получает сводную информацию об отгрузках товаров за указанный период.
+     * Находит отгрузку по идентификатору с немедленной загрузкой связанных элементов отгрузки.
      *
-     * @param startDate начальная дата периода
-     * @param endDate   конечная дата периода
-     * @return список DTO {@link ShipmentItemDto}, содержащих информацию о поставщиках, товарах, общем весе и стоимости
+     * @param shipmentId идентификатор отгрузки
+     * @return опциональный объект {@link Shipment}, если найден
      */
     @Query("""
-                SELECT new com.example.supplymaster.dto.shipment.ShipmentItemDto(
-                    sup.id,
-                    sup.name,
-                    p.id,
-                    p.name,
-                    SUM(si.weightKg),
-                    SUM(si.totalPrice)
-                )
-                FROM ShipmentItem si
-                JOIN si.shipment s
-                JOIN s.supplier sup
-                JOIN si.product p
-                WHERE s.shipmentDate BETWEEN :startDate AND :endDate
-                GROUP BY sup.id, sup.name, p.id, p.name
+            select s
+            from Shipment s
+            join fetch s.shipmentItems
+            where s.id = :shipmentId
             """)
-    List<ShipmentItemDto> getProductShipmentSummary(@Param("startDate") LocalDate startDate,
-                                                    @Param("endDate") LocalDate endDate);
+    Optional<Shipment> findFetchById(@Param("shipmentId") UUID shipmentId);
 
     /**
-     * Находит отгрузку по идентификатору с немедленной загрузкой связанных элементов отгрузки.
+     * Находит заголовок отгрузки без загрузки сущности и её товаров.
      *
      * @param shipmentId идентификатор отгрузки
-     * @return опциональный объект {@link Shipment}, если найден
+     * @return опциональный объект {@link ShipmentHeaderDto}, если отгрузка найдена
      */
     @Query("""
-            select s
+            select new com.example.supplymaster.dto.shipment.ShipmentHeaderDto(s.id, s.supplier.id, s.shipmentDate)
             from Shipment s
-            join fetch s.shipmentItems
             where s.id = :shipmentId
             """)
-    Optional<Shipment> findFetchById(@Param("shipmentId") UUID shipmentId);
+    Optional<ShipmentHeaderDto> findHeaderById(@Param("shipmentId") UUID shipmentId);
+
+    /**
+     * Находит заголовки отгрузок поставщика за период в порядке даты отгрузки.
+     *
+     * @param supplierId идентификатор поставщика
+     * @param startDate  начальная дата периода
+     * @param endDate    конечная дата периода
+     * @param limit      максимальное количество отгрузок
+     * @return список DTO {@link ShipmentHeaderDto}
+     */
+    @Query("""
+            select new com.example.supplymaster.dto.shipment.ShipmentHeaderDto(s.id, s.supplier.id, s.shipmentDate)
+            from Shipment s
+            where s.supplier.id = :supplierId
+              and s.shipmentDate between :startDate and :endDate
+            order by s.shipmentDate, s.id
+            """)
+    List<ShipmentHeaderDto> findHeaders(@Param("supplierId") UUID supplierId, @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate, Limit limit);
+
+    /**
+     * Находит заголовки отгрузок по идентификаторам.
+     *
+     * @param shipmentIds идентификаторы отгрузок
+     * @return список DTO {@link ShipmentHeaderDto} найденных отгрузок
+     */
+    @Query("""
+            select new com.example.supplymaster.dto.shipment.ShipmentHeaderDto(s.id, s.supplier.id, s.shipmentDate)
+            from Shipment s
+            where s.id in :shipmentIds
+            """)
+    List<ShipmentHeaderDto> findHeadersByIdIn(@Param("shipmentIds") Collection<UUID> shipmentIds);
+
+    /**
+     * Изменяет дату отгрузки.
+     *
+     * @param shipmentId   идентификатор отгрузки
+     * @param shipmentDate новая дата отгрузки
+     */
+    @Modifying
+    @Query("update Shipment s set s.shipmentDate = :shipmentDate where s.id = :shipmentId")
+    void updateShipmentDate(@Param("shipmentId") UUID shipmentId, @Param("shipmentDate") LocalDate shipmentDate);
+
+    /**
+     * Блокирует строку отгрузки до конца транзакции.
+     * <p>
+     * Используется при изменении отгрузки, чтобы одновременные изменения одной отгрузки выполнялись
+     * последовательно.
+     *
+     * @param shipmentId идентификатор отгрузки
+     * @return идентификатор отгрузки, если она найдена
+     */
+    @Query(value = "SELECT id FROM shipments WHERE id = :shipmentId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(@Param("shipmentId") UUID shipmentId);
 }
\ No newline at end of file
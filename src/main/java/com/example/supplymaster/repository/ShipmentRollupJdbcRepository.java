@@ -0,0 +1,205 @@
+package com.example.supplymaster.repository;
+
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesPointDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Репозиторий для поддержки дневных итогов отгрузок через JDBC.
+ * <p>
+ * Итоги изменяются запросами над множеством строк: перед изменением отгрузки её текущие товары вычитаются
+ * из итогов, после изменения — добавляются. Запросы читают товары отгрузок из базы данных, поэтому перед их
+ * выполнением изменения контекста персистентности должны быть сброшены. Строки итогов изменяются в порядке
+ * ключа (день, поставщик, продукт), чтобы параллельные транзакции блокировали их в одном порядке и не
+ * попадали во взаимную блокировку.
+ * <p>
+ * По итогам также строятся временные ряды и рейтинги поставок, которые вычисляются одним запросом.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentRollupJdbcRepository {
+    private static final String APPLY_SHIPMENTS = """
+            INSERT INTO shipment_daily_rollup (day, supplier_id, product_id, weight_kg, total_price)
+            SELECT s.shipment_date, s.supplier_id, si.product_id, ? * SUM(si.weight_kg), ? * SUM(si.total_price)
+            FROM shipment_items si
+                     JOIN shipments s ON s.id = si.shipment_id
+            WHERE si.shipment_id = ANY (?)
+            GROUP BY s.shipment_date, s.supplier_id, si.product_id
+            ORDER BY 1, 2, 3
+            ON CONFLICT (day, supplier_id, product_id) DO UPDATE
+                SET weight_kg   = shipment_daily_rollup.weight_kg + EXCLUDED.weight_kg,
+                    total_price = shipment_daily_rollup.total_price + EXCLUDED.total_price
+            """;
+    private static final String DELETE_EMPTY = """
+            DELETE FROM shipment_daily_rollup r
+            USING shipments s
+            WHERE s.id = ?
+              AND r.day = s.shipment_date
+              AND r.supplier_id = s.supplier_id
+              AND r.weight_kg = 0
+            """;
+    private static final String LOCK_ROLLUP = "LOCK TABLE shipment_daily_rollup IN EXCLUSIVE MODE";
+    private static final String DELETE_ALL = "DELETE FROM shipment_daily_rollup";
+    private static final String REBUILD = """
+            INSERT INTO shipment_daily_rollup (day, supplier_id, product_id, weight_kg, total_price)
+            SELECT s.shipment_date, s.supplier_id, si.product_id, SUM(si.weight_kg), SUM(si.total_price)
+            FROM shipment_items si
+                     JOIN shipments s ON s.id = si.shipment_id
+            GROUP BY s.shipment_date, s.supplier_id, si.product_id
+            """;
+    private static final String SERIES = """
+            SELECT CAST(date_trunc(?, r.day) AS DATE) AS period_start,
+                   r.supplier_id,
+                   sup.name                          AS supplier_name,
+                   r.product_id,
+                   p.name                            AS product_name,
+                   SUM(r.weight_kg)                  AS total_weight_kg,
+                   SUM(r.total_price)                AS total_price
+            FROM shipment_daily_rollup r
+                     JOIN suppliers sup ON sup.id = r.supplier_id
+                     JOIN products p ON p.id = r.product_id
+            WHERE r.day BETWEEN ? AND ?
+            GROUP BY period_start, r.supplier_id, sup.name, r.product_id, p.name
+            ORDER BY sup.name, r.supplier_id, p.name, r.product_id, period_start
+            """;
+    private static final String TOP_SUPPLIERS = """
+            SELECT sup.id, sup.name, SUM(r.weight_kg) AS total_weight_kg, SUM(r.total_price) AS total_price
+            FROM shipment_daily_rollup r
+                     JOIN suppliers sup ON sup.id = r.supplier_id
+            WHERE r.day BETWEEN ? AND ?
+            GROUP BY sup.id, sup.name
+            ORDER BY %s DESC, sup.name, sup.id
+            LIMIT ?
+            """;
+    private static final String TOP_PRODUCTS = """
+            SELECT p.id, p.name, SUM(r.weight_kg) AS total_weight_kg, SUM(r.total_price) AS total_price
+            FROM shipment_daily_rollup r
+                     JOIN products p ON p.id = r.product_id
+            WHERE r.day BETWEEN ? AND ?
+            GROUP BY p.id, p.name
+            ORDER BY %s DESC, p.name, p.id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Добавляет товары отгрузок к дневным итогам.
+     *
+     * @param shipmentIds идентификаторы отгрузок.
+     */
+    public void addShipments(Collection<UUID> shipmentIds) {
+        apply(shipmentIds, 1);
+    }
+
+    /**
+     * Вычитает товары отгрузки из дневных итогов и удаляет опустевшие строки итогов её дня.
+     *
+     * @param shipmentId идентификатор отгрузки.
+     */
+    public void subtractShipment(UUID shipmentId) {
+        apply(List.of(shipmentId), -1);
+        jdbcTemplate.update(DELETE_EMPTY, shipmentId);
+    }
+
+    /**
+     * Полностью пересчитывает дневные итоги по всем отгрузкам.
+     * <p>
+     * На время пересчёта таблица итогов блокируется, поэтому одновременные записи отгрузок ожидают его
+     * завершения и применяются уже к пересчитанным итогам.
+     *
+     * @return количество строк итогов.
+     */
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.execute(LOCK_ROLLUP);
+        jdbcTemplate.update(DELETE_ALL);
+        return jdbcTemplate.update(REBUILD);
+    }
+
+    /**
+     * Получает временные ряды поставок товаров за период одним запросом.
+     * <p>
+     * Дни периода группируются по шагу ряда; начало первого шага может предшествовать началу периода,
+     * но в итоги попадают только дни периода.
+     *
+     * @param startDate   начальная дата периода.
+     * @param endDate     конечная дата периода.
+     * @param granularity шаг временного ряда.
+     * @return временные ряды по паре поставщик/товар, упорядоченные по названию поставщика и товара.
+     */
+    public List<ShipmentSeriesDto> getProductShipmentSeries(LocalDate startDate, LocalDate endDate,
+                                                            ShipmentReportGranularity granularity) {
+        List<ShipmentSeriesDto> series = new ArrayList<>();
+        jdbcTemplate.query(SERIES, rs -> {
+            UUID supplierId = rs.getObject("supplier_id", UUID.class);
+            UUID productId = rs.getObject("product_id", UUID.class);
+            ShipmentSeriesDto current = series.isEmpty() ? null : series.getLast();
+            if (current == null || !current.getSupplierId().equals(supplierId)
+                    || !current.getProductId().equals(productId)) {
+                current = new ShipmentSeriesDto(supplierId, rs.getString("supplier_name"), productId,
+                        rs.getString("product_name"), new ArrayList<>());
+                series.add(current);
+            }
+            current.getPoints().add(new ShipmentSeriesPointDto(rs.getDate("period_start").toLocalDate(),
+                    rs.getBigDecimal("total_weight_kg"), rs.getBigDecimal("total_price")));
+        }, granularity.getTruncUnit(), Date.valueOf(startDate), Date.valueOf(endDate));
+        return series;
+    }
+
+    /**
+     * Получает первые поставщиков или товары по весу или стоимости поставок за период.
+     * <p>
+     * Сортировка и ограничение выполняются в базе данных, поэтому в приложение передаются только
+     * строки рейтинга.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param dimension измерение рейтинга.
+     * @param metric    показатель рейтинга.
+     * @param limit     количество строк рейтинга.
+     * @return строки рейтинга в порядке убывания показателя.
+     */
+    public List<ShipmentTopItemDto> getTopShipments(LocalDate startDate, LocalDate endDate,
+                                                    ShipmentTopDimension dimension, ShipmentTopMetric metric,
+                                                    int limit) {
+        String query = switch (dimension) {
+            case SUPPLIER -> TOP_SUPPLIERS;
+            case PRODUCT -> TOP_PRODUCTS;
+        };
+        String orderColumn = switch (metric) {
+            case WEIGHT -> "total_weight_kg";
+            case REVENUE -> "total_price";
+        };
+        return jdbcTemplate.query(query.formatted(orderColumn), (rs, rowNum) -> new ShipmentTopItemDto(
+                        rs.getObject("id", UUID.class), rs.getString("name"),
+                        rs.getBigDecimal("total_weight_kg"), rs.getBigDecimal("total_price")),
+                Date.valueOf(startDate), Date.valueOf(endDate), limit);
+    }
+
+    private void apply(Collection<UUID> shipmentIds, int sign) {
+        if (shipmentIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = shipmentIds.toArray(UUID[]::new);
+        jdbcTemplate.update(APPLY_SHIPMENTS, ps -> {
+            ps.setInt(1, sign);
+            ps.setInt(2, sign);
+            ps.setArray(3, ps.getConnection().createArrayOf("uuid", ids));
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.supplymaster.service.price;
+
+import com.example.supplymaster.dto.price.PriceImportReportDto;
+import com.example.supplymaster.service.price.imports.PriceImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * Сервис для массового импорта цен на продукты.
+ */
+public interface PriceImportService {
+    PriceImportReportDto importPrices(InputStream inputStream, PriceImportFormat format);
+}
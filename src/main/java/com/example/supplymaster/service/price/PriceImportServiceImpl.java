@@ -0,0 +1,166 @@
+package com.example.supplymaster.service.price;
+
+import com.example.supplymaster.config.PriceImportProperties;
+import com.example.supplymaster.dto.price.NewPriceRequest;
+import com.example.supplymaster.dto.price.PriceImportReportDto;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.RejectedPriceRowDto;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Supplier;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.repository.PriceJdbcRepository;
+import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.imports.PriceImportCandidate;
+import com.example.supplymaster.service.price.imports.PriceImportFormat;
+import com.example.supplymaster.service.price.imports.PriceImportReader;
+import com.example.supplymaster.service.price.imports.PriceOverlapSweeper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для массового импорта цен на продукты.
+ * <p>
+ * Файл читается построчно, каждая строка проверяется теми же ограничениями, что и запрос на создание
+ * одной цены. Пересечения периодов внутри файла и с уже существующими ценами определяются одним проходом
+ * по отсортированным данным, корректные строки сохраняются пакетами JDBC в одной транзакции.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class PriceImportServiceImpl implements PriceImportService {
+    private final PriceImportReader priceImportReader;
+    private final PriceRepository priceRepository;
+    private final PriceJdbcRepository priceJdbcRepository;
+    private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
+    private final Validator validator;
+    private final PriceImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Импортирует цены из файла.
+     *
+     * @param inputStream поток с содержимым файла.
+     * @param format      формат файла.
+     * @return отчёт об импорте со списком отклонённых строк.
+     */
+    @Override
+    public PriceImportReportDto importPrices(InputStream inputStream, PriceImportFormat format) {
+        List<PriceImportCandidate> candidates = new ArrayList<>();
+        List<RejectedPriceRowDto> rejected = new ArrayList<>();
+
+        priceImportReader.read(inputStream, format, row -> {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                rejected.add(new RejectedPriceRowDto(row.lineNumber(), error));
+            } else {
+                candidates.add(new PriceImportCandidate(row.lineNumber(), toPeriod(row.request())));
+            }
+        });
+        int totalRows = candidates.size() + rejected.size();
+
+        List<PriceImportCandidate> referenced = rejectUnknownReferences(candidates, rejected);
+        List<PriceImportCandidate> accepted = List.of();
+        if (!referenced.isEmpty()) {
+            PriceOverlapSweeper.Result result = PriceOverlapSweeper.sweep(referenced,
+                    priceRepository.findPeriodsForSuppliersAndProducts(
+                            collectIds(referenced, PricePeriodDto::getSupplierId),
+                            collectIds(referenced, PricePeriodDto::getProductId)));
+            accepted = result.accepted();
+            rejected.addAll(result.rejected());
+        }
+
+        if (!accepted.isEmpty()) {
+            List<PricePeriodDto> prices = accepted.stream().map(PriceImportCandidate::period).toList();
+            priceJdbcRepository.batchInsert(prices, properties.batchSize());
+            eventPublisher.publishEvent(new PriceChangedEvent(prices));
+        }
+
+        rejected.sort(Comparator.comparingLong(RejectedPriceRowDto::getLineNumber));
+        return new PriceImportReportDto(totalRows, accepted.size(), rejected);
+    }
+
+    /**
+     * Проверяет строку ограничениями {@link NewPriceRequest} и порядок дат.
+     *
+     * @param request данные строки.
+     * @return описание ошибки или {@code null}, если строка корректна.
+     */
+    private String validate(NewPriceRequest request) {
+        Set<ConstraintViolation<NewPriceRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> String.format("Field '%s': %s", violation.getPropertyPath(),
+                            violation.getMessage()))
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            return "Дата начала действия цены позже даты окончания";
+        }
+        return null;
+    }
+
+    /**
+     * Отклоняет строки со ссылками на несуществующих поставщиков и продукты.
+     *
+     * @param candidates строки импорта.
+     * @param rejected   список отклонённых строк, в который добавляются ошибки.
+     * @return строки с корректными ссылками.
+     */
+    private List<PriceImportCandidate> rejectUnknownReferences(List<PriceImportCandidate> candidates,
+                                                               List<RejectedPriceRowDto> rejected) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<UUID> supplierIds = supplierRepository.findAllById(
+                        collectIds(candidates, PricePeriodDto::getSupplierId)).stream()
+                .map(Supplier::getId)
+                .collect(Collectors.toSet());
+        Set<UUID> productIds = productRepository.findAllById(
+                        collectIds(candidates, PricePeriodDto::getProductId)).stream()
+                .map(Product::getId)
+                .collect(Collectors.toSet());
+
+        List<PriceImportCandidate> referenced = new ArrayList<>(candidates.size());
+        for (PriceImportCandidate candidate : candidates) {
+            if (!supplierIds.contains(candidate.period().getSupplierId())) {
+                rejected.add(new RejectedPriceRowDto(candidate.lineNumber(), "Поставщик не найден с ID "
+                        + candidate.period().getSupplierId()));
+            } else if (!productIds.contains(candidate.period().getProductId())) {
+                rejected.add(new RejectedPriceRowDto(candidate.lineNumber(), "Продукт не найден с ID "
+                        + candidate.period().getProductId()));
+            } else {
+                referenced.add(candidate);
+            }
+        }
+        return referenced;
+    }
+
+    private Set<UUID> collectIds(List<PriceImportCandidate> candidates,
+                                 Function<PricePeriodDto, UUID> idExtractor) {
+        return candidates.stream()
+                .map(candidate -> idExtractor.apply(candidate.period()))
+                .collect(Collectors.toSet());
+    }
+
+    private PricePeriodDto toPeriod(NewPriceRequest request) {
+        return new PricePeriodDto(UUID.randomUUID(), request.getSupplierId(), request.getProductId(),
+                request.getPricePerKg(), request.getStartDate(), request.getEndDate());
+    }
+}
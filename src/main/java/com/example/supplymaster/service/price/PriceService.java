@@ -1,7 +1,12 @@
 package com.example.supplymaster.service.price;
 
 import com.example.supplymaster.dto.price.PriceDto;
+import com.example.supplymaster.dto.price.PriceMatrixDto;
+import com.example.supplymaster.dto.price.PriceQuoteDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +16,8 @@ public interface PriceService {
     UUID createPriceForProduct(PriceDto priceDto);
 
     UUID updatePriceForProduct(PriceDto priceDto);
+
+    PriceQuoteDto quotePrices(List<PriceQuoteItemRequest> items);
+
+    PriceMatrixDto getPriceMatrix(LocalDate date);
 }
\ No newline at end of file
@@ -2,14 +2,32 @@ package com.example.supplymaster.service.price;
 
 import com.example.supplymaster.dto.mappers.PriceMapper;
 import com.example.supplymaster.dto.price.PriceDto;
+import com.example.supplymaster.dto.price.PriceMatrixDto;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
 import com.example.supplymaster.entity.Price;
 import com.example.supplymaster.error.exception.EntityNotFoundException;
 import com.example.supplymaster.error.exception.PriceConflictException;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.metrics.ReportJfrEvent;
 import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.price.matrix.PriceMatrixCache;
+import com.example.supplymaster.service.price.matrix.PriceMatrixSnapshot;
+import com.example.supplymaster.util.ConstraintViolations;
+import com.example.supplymaster.util.Constants;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,9 +39,15 @@ import java.util.UUID;
 public class PriceServiceImpl implements PriceService {
     private final PriceRepository priceRepository;
     private final PriceMapper priceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceResolver priceResolver;
+    private final PriceMatrixCache priceMatrixCache;
 
     /**
-     * Создает новую цену для продукта, проверяя отсутствие пересечения дат.
+     * Создает новую цену для продукта.
+     * <p>
+     * Отсутствие пересечения дат гарантируется ограничением исключения в базе данных,
+     * поэтому запись выполняется сразу, без предварительной проверки.
      *
      * @param priceDto DTO с информацией о цене.
      * @return UUID созданной записи цены.
@@ -31,18 +55,17 @@ public class PriceServiceImpl implements PriceService {
      */
     @Override
     public UUID createPriceForProduct(PriceDto priceDto) {
-        boolean existsPrice = priceRepository.checkIsNoIntersectionTime(
-                priceDto.getSupplier().getId(),
-                priceDto.getProduct().getId(),
-                priceDto.getStartDate(),
-                priceDto.getEndDate());
-
-        if (!existsPrice) {
-            throw new PriceConflictException("Ошибка: Цена на этот период уже существует!");
+        Price newPrice;
+        try {
+            newPrice = priceRepository.saveAndFlush(priceMapper.toEntity(priceDto));
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, Constants.PRICES_NO_OVERLAP_CONSTRAINT)) {
+                throw new PriceConflictException(Constants.PRICE_PERIOD_EXISTS_MESSAGE);
+            }
+            throw e;
         }
-
-        Price newPrice = priceMapper.toEntity(priceDto);
-        return priceRepository.save(newPrice).getId();
+        publishPriceChanged(newPrice);
+        return newPrice.getId();
     }
 
     /**
@@ -57,6 +80,61 @@ public class PriceServiceImpl implements PriceService {
         Price existsPrice = priceRepository.findById(priceDto.getId()).orElseThrow(() ->
                 new EntityNotFoundException("Цена для данного поставщика и продукта не найдена."));
         existsPrice.setPricePerKg(priceDto.getPricePerKg());
+        publishPriceChanged(existsPrice);
         return existsPrice.getId();
     }
+
+    /**
+     * Определяет цены для списка сочетаний поставщик/продукт/дата.
+     *
+     * @param items сочетания поставщик/продукт/дата.
+     * @return цены по колонкам в порядке элементов запроса.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PriceQuoteDto quotePrices(List<PriceQuoteItemRequest> items) {
+        List<PricePeriodDto> periods = priceResolver.resolvePeriods(items);
+        List<UUID> priceIds = new ArrayList<>(periods.size());
+        List<BigDecimal> pricesPerKg = new ArrayList<>(periods.size());
+        for (PricePeriodDto period : periods) {
+            priceIds.add(period == null ? null : period.getId());
+            pricesPerKg.add(period == null ? null : period.getPricePerKg());
+        }
+        return new PriceQuoteDto(priceIds, pricesPerKg);
+    }
+
+    /**
+     * Возвращает матрицу цен поставщик × продукт, действующих на дату.
+     * <p>
+     * Метод не открывает собственную транзакцию: матрица берётся из памяти, а если её нужно построить,
+     * периоды цен читаются одним запросом в транзакции репозитория.
+     *
+     * @param date дата.
+     * @return матрица цен.
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PriceMatrixDto getPriceMatrix(LocalDate date) {
+        ReportJfrEvent jfrEvent = ReportJfrEvent.start();
+        jfrEvent.aggregationStarted();
+        PriceMatrixSnapshot snapshot = priceMatrixCache.get(date);
+        jfrEvent.aggregationFinished();
+        jfrEvent.commit("priceMatrix", date, date, snapshot.supplierCount());
+        return snapshot.toDto();
+    }
+
+    /**
+     * Публикует событие изменения цены, которое обрабатывается после фиксации транзакции.
+     *
+     * @param price изменённая цена.
+     */
+    private void publishPriceChanged(Price price) {
+        eventPublisher.publishEvent(new PriceChangedEvent(List.of(new PricePeriodDto(
+                price.getId(),
+                price.getSupplier().getId(),
+                price.getProduct().getId(),
+                price.getPricePerKg(),
+                price.getStartDate(),
+                price.getEndDate()))));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.supplymaster.service.price.imports;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+
+/**
+ * Прошедшая проверку строка импорта, подготовленная к сохранению.
+ *
+ * @param lineNumber номер строки в файле.
+ * @param period     период цены с уже назначенным идентификатором.
+ */
+public record PriceImportCandidate(long lineNumber, PricePeriodDto period) {
+}
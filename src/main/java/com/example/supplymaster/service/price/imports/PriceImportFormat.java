@@ -0,0 +1,38 @@
+package com.example.supplymaster.service.price.imports;
+
+import com.example.supplymaster.error.exception.ValidationException;
+import org.springframework.http.MediaType;
+
+/**
+ * Поддерживаемые форматы файла импорта цен.
+ */
+public enum PriceImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    public static final String CSV_VALUE = "text/csv";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final MediaType mediaType;
+
+    PriceImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    /**
+     * Определяет формат по заголовку Content-Type.
+     *
+     * @param contentType значение заголовка Content-Type.
+     * @return формат импорта.
+     * @throws ValidationException если формат не поддерживается.
+     */
+    public static PriceImportFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (PriceImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Неподдерживаемый формат импорта: " + contentType);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.supplymaster.service.price.imports;
+
+import com.example.supplymaster.dto.price.NewPriceRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Построчное чтение файла импорта цен в форматах CSV и NDJSON.
+ * <p>
+ * CSV содержит колонки {@code supplierId,productId,pricePerKg,startDate,endDate}, строка заголовка необязательна.
+ * NDJSON содержит по одному JSON-объекту {@link NewPriceRequest} в строке. Пустые строки пропускаются,
+ * ошибка разбора строки не прерывает чтение файла.
+ */
+@Component
+public class PriceImportReader {
+    private static final String CSV_HEADER_PREFIX = "supplierId";
+    private static final int CSV_COLUMNS = 5;
+
+    private final ObjectReader jsonReader;
+
+    public PriceImportReader(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(NewPriceRequest.class);
+    }
+
+    /**
+     * Читает поток и передаёт каждую строку с данными обработчику.
+     *
+     * @param inputStream поток с содержимым файла.
+     * @param format      формат файла.
+     * @param consumer    обработчик строк.
+     */
+    public void read(InputStream inputStream, PriceImportFormat format, Consumer<PriceImportRow> consumer) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && format == PriceImportFormat.CSV
+                        && line.startsWith(CSV_HEADER_PREFIX))) {
+                    continue;
+                }
+                consumer.accept(format == PriceImportFormat.CSV
+                        ? parseCsv(lineNumber, line)
+                        : parseJson(lineNumber, line));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PriceImportRow parseCsv(long lineNumber, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMNS) {
+            return PriceImportRow.failed(lineNumber, "Ожидается " + CSV_COLUMNS + " колонок, получено "
+                    + columns.length);
+        }
+        try {
+            return PriceImportRow.parsed(lineNumber, new NewPriceRequest(
+                    UUID.fromString(columns[0].trim()),
+                    UUID.fromString(columns[1].trim()),
+                    new BigDecimal(columns[2].trim()),
+                    LocalDate.parse(columns[3].trim()),
+                    LocalDate.parse(columns[4].trim())));
+        } catch (RuntimeException e) {
+            return PriceImportRow.failed(lineNumber, "Некорректное значение: " + e.getMessage());
+        }
+    }
+
+    private PriceImportRow parseJson(long lineNumber, String line) {
+        try {
+            NewPriceRequest request = jsonReader.readValue(line);
+            if (request == null) {
+                return PriceImportRow.failed(lineNumber, "Ожидается объект цены, получено null");
+            }
+            return PriceImportRow.parsed(lineNumber, request);
+        } catch (JsonProcessingException e) {
+            return PriceImportRow.failed(lineNumber, "Некорректный JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.supplymaster.service.price.imports;
+
+import com.example.supplymaster.dto.price.NewPriceRequest;
+
+/**
+ * Строка файла импорта цен.
+ *
+ * @param lineNumber номер строки в файле.
+ * @param request    разобранные данные цены или {@code null}, если строку не удалось разобрать.
+ * @param error      причина ошибки разбора или {@code null}.
+ */
+public record PriceImportRow(long lineNumber, NewPriceRequest request, String error) {
+
+    public static PriceImportRow parsed(long lineNumber, NewPriceRequest request) {
+        return new PriceImportRow(lineNumber, request, null);
+    }
+
+    public static PriceImportRow failed(long lineNumber, String error) {
+        return new PriceImportRow(lineNumber, null, error);
+    }
+}
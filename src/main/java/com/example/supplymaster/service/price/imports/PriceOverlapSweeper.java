@@ -0,0 +1,110 @@
+package com.example.supplymaster.service.price.imports;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.RejectedPriceRowDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Поиск пересечений периодов цен методом сортировки и прохода.
+ * <p>
+ * Для каждой пары поставщик/продукт строки импорта сортируются по дате начала. Строка отклоняется,
+ * если её период пересекается с уже существующей ценой (бинарный поиск по отсортированным существующим
+ * периодам) или с ранее принятой строкой того же файла. При равной дате начала приоритет у строки,
+ * расположенной в файле выше.
+ * <p>
+ * Этот класс является утилитным, и его экземпляры не могут быть созданы.
+ */
+public final class PriceOverlapSweeper {
+    private static final Comparator<PriceImportCandidate> BY_START_DATE = Comparator
+            .comparing((PriceImportCandidate candidate) -> candidate.period().getStartDate())
+            .thenComparingLong(PriceImportCandidate::lineNumber);
+
+    private PriceOverlapSweeper() {
+    }
+
+    /**
+     * Разделяет строки импорта на принятые и отклонённые.
+     *
+     * @param candidates строки импорта.
+     * @param existing   существующие периоды цен для тех же поставщиков и продуктов.
+     * @return результат проверки.
+     */
+    public static Result sweep(Collection<PriceImportCandidate> candidates, Collection<PricePeriodDto> existing) {
+        Map<Key, List<PricePeriodDto>> existingByKey = new HashMap<>();
+        existing.forEach(period -> existingByKey
+                .computeIfAbsent(Key.of(period), k -> new ArrayList<>())
+                .add(period));
+        existingByKey.values().forEach(periods -> periods.sort(Comparator.comparing(PricePeriodDto::getStartDate)));
+
+        Map<Key, List<PriceImportCandidate>> candidatesByKey = new HashMap<>();
+        candidates.forEach(candidate -> candidatesByKey
+                .computeIfAbsent(Key.of(candidate.period()), k -> new ArrayList<>())
+                .add(candidate));
+
+        List<PriceImportCandidate> accepted = new ArrayList<>(candidates.size());
+        List<RejectedPriceRowDto> rejected = new ArrayList<>();
+        candidatesByKey.forEach((key, keyCandidates) -> {
+            keyCandidates.sort(BY_START_DATE);
+            List<PricePeriodDto> keyExisting = existingByKey.getOrDefault(key, List.of());
+            PriceImportCandidate lastAccepted = null;
+            for (PriceImportCandidate candidate : keyCandidates) {
+                PricePeriodDto period = candidate.period();
+                if (overlapsExisting(keyExisting, period)) {
+                    rejected.add(new RejectedPriceRowDto(candidate.lineNumber(),
+                            "Период пересекается с существующей ценой"));
+                } else if (lastAccepted != null
+                        && !period.getStartDate().isAfter(lastAccepted.period().getEndDate())) {
+                    rejected.add(new RejectedPriceRowDto(candidate.lineNumber(),
+                            "Период пересекается с ценой в строке " + lastAccepted.lineNumber()));
+                } else {
+                    accepted.add(candidate);
+                    lastAccepted = candidate;
+                }
+            }
+        });
+        rejected.sort(Comparator.comparingLong(RejectedPriceRowDto::getLineNumber));
+        return new Result(accepted, rejected);
+    }
+
+    /**
+     * Проверяет пересечение с отсортированными непересекающимися периодами: достаточно проверить
+     * последний период, начинающийся не позже окончания проверяемого.
+     */
+    private static boolean overlapsExisting(List<PricePeriodDto> sortedExisting, PricePeriodDto period) {
+        int low = 0;
+        int high = sortedExisting.size() - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (!sortedExisting.get(mid).getStartDate().isAfter(period.getEndDate())) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && !sortedExisting.get(candidate).getEndDate().isBefore(period.getStartDate());
+    }
+
+    /**
+     * Результат проверки строк импорта.
+     *
+     * @param accepted строки без пересечений.
+     * @param rejected отклонённые строки, отсортированные по номеру строки.
+     */
+    public record Result(List<PriceImportCandidate> accepted, List<RejectedPriceRowDto> rejected) {
+    }
+
+    private record Key(UUID supplierId, UUID productId) {
+        static Key of(PricePeriodDto period) {
+            return new Key(period.getSupplierId(), period.getProductId());
+        }
+    }
+}
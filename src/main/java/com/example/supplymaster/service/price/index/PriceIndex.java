@@ -0,0 +1,104 @@
+package com.example.supplymaster.service.price.index;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Индекс цен в памяти, сгруппированный по паре поставщик/продукт.
+ * <p>
+ * Для каждой пары хранится неизменяемая {@link PriceTimeline}, отсортированная по дате начала действия,
+ * поэтому поиск цены на дату выполняется бинарным поиском. Изменения применяются заменой временной шкалы
+ * целиком, читатели не блокируются.
+ */
+public class PriceIndex {
+    private final Map<Key, PriceTimeline> timelines;
+
+    private PriceIndex(Map<Key, PriceTimeline> timelines) {
+        this.timelines = new ConcurrentHashMap<>(timelines);
+    }
+
+    /**
+     * Строит индекс по списку периодов цен.
+     *
+     * @param periods периоды цен.
+     * @return новый индекс.
+     */
+    public static PriceIndex of(Collection<PricePeriodDto> periods) {
+        Map<Key, List<PricePeriodDto>> grouped = periods.stream()
+                .collect(Collectors.groupingBy(p -> new Key(p.getSupplierId(), p.getProductId())));
+        Map<Key, PriceTimeline> timelines = new HashMap<>(grouped.size());
+        grouped.forEach((key, keyPeriods) -> timelines.put(key, PriceTimeline.of(keyPeriods)));
+        return new PriceIndex(timelines);
+    }
+
+    /**
+     * Находит цену, действующую на указанную дату.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param productId  идентификатор продукта.
+     * @param date       дата.
+     * @return период цены или {@code null}, если цена не найдена.
+     */
+    public PricePeriodDto find(UUID supplierId, UUID productId, LocalDate date) {
+        PriceTimeline timeline = timelines.get(new Key(supplierId, productId));
+        return timeline == null ? null : timeline.find(date);
+    }
+
+    /**
+     * Находит цену за килограмм, действующую на указанную дату.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param productId  идентификатор продукта.
+     * @param date       дата.
+     * @return цена за килограмм или {@code null}, если цена не найдена.
+     */
+    public BigDecimal findPricePerKg(UUID supplierId, UUID productId, LocalDate date) {
+        PricePeriodDto period = find(supplierId, productId, date);
+        return period == null ? null : period.getPricePerKg();
+    }
+
+    /**
+     * Добавляет период цены в индекс или заменяет период с тем же идентификатором.
+     *
+     * @param period период цены.
+     */
+    public void put(PricePeriodDto period) {
+        Key key = new Key(period.getSupplierId(), period.getProductId());
+        timelines.compute(key, (k, timeline) -> timeline == null
+                ? PriceTimeline.of(List.of(period))
+                : timeline.with(period));
+    }
+
+    /**
+     * Возвращает все периоды цен, содержащиеся в индексе.
+     *
+     * @return список периодов цен.
+     */
+    public List<PricePeriodDto> periods() {
+        List<PricePeriodDto> periods = new ArrayList<>();
+        timelines.values().forEach(timeline -> periods.addAll(timeline.periods()));
+        return periods;
+    }
+
+    /**
+     * Возвращает количество периодов цен в индексе.
+     *
+     * @return количество периодов.
+     */
+    public int size() {
+        return timelines.values().stream().mapToInt(PriceTimeline::size).sum();
+    }
+
+    private record Key(UUID supplierId, UUID productId) {
+    }
+}
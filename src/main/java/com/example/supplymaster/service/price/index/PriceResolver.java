@@ -0,0 +1,218 @@
+package com.example.supplymaster.service.price.index;
+
+import com.example.supplymaster.config.PriceIndexProperties;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.repository.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Компонент определения цен продуктов поставщика на дату.
+ * <p>
+ * Использует {@link PriceIndex} в памяти, а цены, отсутствующие в индексе, запрашивает из базы данных.
+ * Индекс заполняется только полной загрузкой и событиями зафиксированных транзакций: цены, прочитанные при
+ * промахе, в индекс не добавляются, так как могли быть прочитаны до фиксации одновременного изменения
+ * и перезаписать его. События, пришедшие во время перезагрузки, применяются и к загружаемому индексу.
+ * При отключенном индексе все запросы выполняются через {@link PriceRepository}.
+ */
+@Slf4j
+@Component
+public class PriceResolver {
+    private final PriceRepository priceRepository;
+    private final PriceIndexProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Object reloadLock = new Object();
+    private volatile PriceIndex index;
+    private List<PricePeriodDto> changedDuringReload;
+
+    public PriceResolver(PriceRepository priceRepository, PriceIndexProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.priceRepository = priceRepository;
+        this.properties = properties;
+        this.hits = Counter.builder("price.index.lookups")
+                .description("Количество запросов цен к индексу в памяти")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("price.index.lookups")
+                .description("Количество запросов цен к индексу в памяти")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("price.index.size", this, resolver -> resolver.index == null ? 0 : resolver.index.size())
+                .description("Количество периодов цен в индексе")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Загружает индекс цен после старта приложения.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.enabled()) {
+            reload();
+        }
+    }
+
+    /**
+     * Перестраивает индекс по всем ценам из базы данных.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                changedDuringReload = new ArrayList<>();
+            }
+            PriceIndex loaded = null;
+            try {
+                loaded = PriceIndex.of(priceRepository.findAllPeriods());
+            } finally {
+                synchronized (this) {
+                    if (loaded != null) {
+                        changedDuringReload.forEach(loaded::put);
+                        index = loaded;
+                    }
+                    changedDuringReload = null;
+                }
+            }
+            log.info("Индекс цен загружен, периодов: {}", loaded.size());
+        }
+    }
+
+    /**
+     * Возвращает текущий индекс цен.
+     *
+     * @return индекс или {@code null}, если индекс отключен или ещё не загружен.
+     */
+    public PriceIndex currentIndex() {
+        return properties.enabled() ? index : null;
+    }
+
+    /**
+     * Определяет цены за килограмм для продуктов поставщика на указанную дату.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param productIds идентификаторы продуктов.
+     * @param date       дата.
+     * @return Map цен за килограмм по идентификатору продукта; продукты без цены отсутствуют в Map.
+     */
+    public Map<UUID, BigDecimal> resolvePrices(UUID supplierId, Set<UUID> productIds, LocalDate date) {
+        PriceIndex current = currentIndex();
+        if (current == null) {
+            return findInRepository(supplierId, productIds, date);
+        }
+
+        Map<UUID, BigDecimal> prices = new HashMap<>(productIds.size());
+        Set<UUID> missing = new HashSet<>();
+        for (UUID productId : productIds) {
+            BigDecimal pricePerKg = current.findPricePerKg(supplierId, productId, date);
+            if (pricePerKg != null) {
+                prices.put(productId, pricePerKg);
+            } else {
+                missing.add(productId);
+            }
+        }
+        hits.increment(prices.size());
+        misses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            prices.putAll(findInRepository(supplierId, missing, date));
+        }
+        return prices;
+    }
+
+    /**
+     * Определяет периоды цен для списка сочетаний поставщик/продукт/дата.
+     * <p>
+     * Сочетания, отсутствующие в индексе, разрешаются одним запросом к базе данных по всем поставщикам,
+     * продуктам и интервалу дат из этих сочетаний.
+     *
+     * @param items сочетания поставщик/продукт/дата.
+     * @return периоды цен в порядке элементов запроса; {@code null} для сочетаний без цены.
+     */
+    public List<PricePeriodDto> resolvePeriods(List<PriceQuoteItemRequest> items) {
+        PriceIndex current = currentIndex();
+        PricePeriodDto[] resolved = new PricePeriodDto[items.size()];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < resolved.length; i++) {
+            PriceQuoteItemRequest item = items.get(i);
+            resolved[i] = current == null
+                    ? null
+                    : current.find(item.getSupplierId(), item.getProductId(), item.getDate());
+            if (resolved[i] == null) {
+                missing.add(i);
+            }
+        }
+        if (current != null) {
+            hits.increment(resolved.length - missing.size());
+            misses.increment(missing.size());
+        }
+        if (missing.isEmpty()) {
+            return Arrays.asList(resolved);
+        }
+
+        Set<UUID> supplierIds = new HashSet<>();
+        Set<UUID> productIds = new HashSet<>();
+        LocalDate minDate = LocalDate.MAX;
+        LocalDate maxDate = LocalDate.MIN;
+        for (int i : missing) {
+            PriceQuoteItemRequest item = items.get(i);
+            supplierIds.add(item.getSupplierId());
+            productIds.add(item.getProductId());
+            minDate = item.getDate().isBefore(minDate) ? item.getDate() : minDate;
+            maxDate = item.getDate().isAfter(maxDate) ? item.getDate() : maxDate;
+        }
+        List<PricePeriodDto> periods = priceRepository.findPeriodsForSuppliersAndProductsBetween(
+                supplierIds, productIds, minDate, maxDate);
+        PriceIndex fetched = PriceIndex.of(periods);
+        for (int i : missing) {
+            PriceQuoteItemRequest item = items.get(i);
+            resolved[i] = fetched.find(item.getSupplierId(), item.getProductId(), item.getDate());
+        }
+        return Arrays.asList(resolved);
+    }
+
+    /**
+     * Обновляет индекс после фиксации транзакции, изменившей цены.
+     * <p>
+     * Во время перезагрузки изменения также запоминаются и применяются к загруженному индексу, иначе
+     * они были бы потеряны при его замене.
+     *
+     * @param event событие изменения цен.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPriceChanged(PriceChangedEvent event) {
+        if (changedDuringReload != null) {
+            changedDuringReload.addAll(event.prices());
+        }
+        PriceIndex current = currentIndex();
+        if (current != null) {
+            event.prices().forEach(current::put);
+        }
+    }
+
+    private Map<UUID, BigDecimal> findInRepository(UUID supplierId, Set<UUID> productIds, LocalDate date) {
+        Map<UUID, BigDecimal> prices = new HashMap<>(productIds.size());
+        for (PricePeriodDto period : priceRepository.findPriceForSupplierProducts(supplierId, productIds, date)) {
+            prices.put(period.getProductId(), period.getPricePerKg());
+        }
+        return prices;
+    }
+}
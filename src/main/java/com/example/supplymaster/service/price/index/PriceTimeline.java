@@ -0,0 +1,80 @@
+package com.example.supplymaster.service.price.index;
+
+import com.example.supplymaster.dto.price.PricePeriodDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Неизменяемая временная шкала цен одной пары поставщик/продукт.
+ * <p>
+ * Периоды не пересекаются и отсортированы по дате начала, даты хранятся в виде номера дня эпохи.
+ */
+final class PriceTimeline {
+    private final long[] startDays;
+    private final long[] endDays;
+    private final PricePeriodDto[] periods;
+
+    private PriceTimeline(PricePeriodDto[] periods) {
+        this.periods = periods;
+        this.startDays = new long[periods.length];
+        this.endDays = new long[periods.length];
+        for (int i = 0; i < periods.length; i++) {
+            startDays[i] = periods[i].getStartDate().toEpochDay();
+            endDays[i] = periods[i].getEndDate().toEpochDay();
+        }
+    }
+
+    static PriceTimeline of(Collection<PricePeriodDto> periods) {
+        PricePeriodDto[] sorted = periods.toArray(PricePeriodDto[]::new);
+        Arrays.sort(sorted, Comparator.comparing(PricePeriodDto::getStartDate));
+        return new PriceTimeline(sorted);
+    }
+
+    /**
+     * Находит период, содержащий дату: последний период с началом не позже даты,
+     * если его окончание не раньше даты.
+     */
+    PricePeriodDto find(LocalDate date) {
+        long day = date.toEpochDay();
+        int low = 0;
+        int high = startDays.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startDays[mid] <= day) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && endDays[candidate] >= day ? periods[candidate] : null;
+    }
+
+    /**
+     * Возвращает новую шкалу, в которой период с тем же идентификатором заменён переданным.
+     */
+    PriceTimeline with(PricePeriodDto period) {
+        List<PricePeriodDto> updated = new ArrayList<>(periods.length + 1);
+        for (PricePeriodDto existing : periods) {
+            if (!existing.getId().equals(period.getId())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(period);
+        return of(updated);
+    }
+
+    List<PricePeriodDto> periods() {
+        return List.of(periods);
+    }
+
+    int size() {
+        return periods.length;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.supplymaster.service.price.matrix;
+
+import com.example.supplymaster.config.PriceMatrixProperties;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.repository.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Хранилище матриц цен на дату.
+ * <p>
+ * Матрицы хранятся в неизменяемом Map, который целиком заменяется при каждом изменении, поэтому чтение
+ * не требует блокировок. Матрица строится одним запросом к базе данных при первом обращении к дате,
+ * а также ежедневно для текущей даты. После изменения цен все матрицы сбрасываются и строятся заново
+ * при следующем обращении.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceMatrixCache {
+    private final PriceRepository priceRepository;
+    private final PriceMatrixProperties properties;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<LocalDate, PriceMatrixSnapshot> snapshots = Map.of();
+
+    /**
+     * Возвращает матрицу цен на дату, при необходимости строя её.
+     *
+     * @param date дата.
+     * @return матрица цен.
+     */
+    public PriceMatrixSnapshot get(LocalDate date) {
+        PriceMatrixSnapshot snapshot = snapshots.get(date);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long startGeneration = generation.get();
+        snapshot = build(date);
+        publish(snapshot, startGeneration);
+        return snapshot;
+    }
+
+    /**
+     * Строит матрицу на текущую дату и удаляет матрицы на прошедшие даты.
+     */
+    @Scheduled(cron = "${supply-master.price-matrix.rebuild-cron:0 0 0 * * *}")
+    public void rebuildToday() {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation.incrementAndGet();
+            snapshots = Map.of();
+        }
+        PriceMatrixSnapshot snapshot = build(LocalDate.now());
+        if (publish(snapshot, startGeneration)) {
+            log.info("Матрица цен на {} построена: поставщиков {}, продуктов {}", snapshot.getDate(),
+                    snapshot.supplierCount(), snapshot.productCount());
+        } else {
+            log.info("Матрица цен на {} не сохранена: цены изменились во время построения", snapshot.getDate());
+        }
+    }
+
+    /**
+     * Сбрасывает матрицы после фиксации транзакции, изменившей цены.
+     *
+     * @param event событие изменения цен.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(PriceChangedEvent event) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            snapshots = Map.of();
+        }
+    }
+
+    private PriceMatrixSnapshot build(LocalDate date) {
+        return PriceMatrixSnapshot.build(date, priceRepository.findPeriodsValidOn(date));
+    }
+
+    /**
+     * Публикует матрицу, если с начала её построения цены не изменились.
+     *
+     * @param snapshot        построенная матрица.
+     * @param startGeneration поколение матриц на момент начала построения.
+     * @return {@code true}, если матрица опубликована.
+     */
+    private synchronized boolean publish(PriceMatrixSnapshot snapshot, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return false;
+        }
+        Map<LocalDate, PriceMatrixSnapshot> updated = snapshots.size() < properties.maxCachedDates()
+                ? new HashMap<>(snapshots)
+                : new HashMap<>();
+        updated.put(snapshot.getDate(), snapshot);
+        snapshots = Map.copyOf(updated);
+        return true;
+    }
+}
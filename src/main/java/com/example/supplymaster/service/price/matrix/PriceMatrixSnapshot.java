@@ -0,0 +1,130 @@
+package com.example.supplymaster.service.price.matrix;
+
+import com.example.supplymaster.dto.price.PriceMatrixDto;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Неизменяемая матрица цен поставщик × продукт, действующих на одну дату.
+ * <p>
+ * Поставщики и продукты хранятся в отсортированных массивах, их позиции служат плотными индексами строк
+ * и столбцов. Цены хранятся построчно в одном массиве в копейках, отсутствие цены обозначается
+ * {@link #NO_PRICE}.
+ * <p>
+ * Неизменяемый {@link PriceMatrixDto} строится один раз вместе с матрицей, поэтому ответ на запрос матрицы
+ * не создает объектов, сколько бы поставщиков и продуктов в ней ни было.
+ */
+public final class PriceMatrixSnapshot {
+    public static final long NO_PRICE = -1L;
+    private static final int MINOR_UNITS_SCALE = 2;
+
+    private final LocalDate date;
+    private final UUID[] supplierIds;
+    private final UUID[] productIds;
+    private final long[] pricesMinor;
+    private final PriceMatrixDto dto;
+
+    private PriceMatrixSnapshot(LocalDate date, UUID[] supplierIds, UUID[] productIds, long[] pricesMinor) {
+        this.date = date;
+        this.supplierIds = supplierIds;
+        this.productIds = productIds;
+        this.pricesMinor = pricesMinor;
+        this.dto = buildDto();
+    }
+
+    /**
+     * Строит матрицу по периодам цен, действующим на дату.
+     *
+     * @param date    дата.
+     * @param periods периоды цен, действующие на дату.
+     * @return матрица цен.
+     */
+    public static PriceMatrixSnapshot build(LocalDate date, Collection<PricePeriodDto> periods) {
+        UUID[] supplierIds = periods.stream().map(PricePeriodDto::getSupplierId).distinct().sorted()
+                .toArray(UUID[]::new);
+        UUID[] productIds = periods.stream().map(PricePeriodDto::getProductId).distinct().sorted()
+                .toArray(UUID[]::new);
+        long[] pricesMinor = new long[supplierIds.length * productIds.length];
+        Arrays.fill(pricesMinor, NO_PRICE);
+        for (PricePeriodDto period : periods) {
+            int row = Arrays.binarySearch(supplierIds, period.getSupplierId());
+            int column = Arrays.binarySearch(productIds, period.getProductId());
+            pricesMinor[row * productIds.length + column] = period.getPricePerKg()
+                    .setScale(MINOR_UNITS_SCALE).unscaledValue().longValueExact();
+        }
+        return new PriceMatrixSnapshot(date, supplierIds, productIds, pricesMinor);
+    }
+
+    /**
+     * Возвращает матрицу в виде DTO, построенного вместе с матрицей.
+     *
+     * @return неизменяемый DTO матрицы цен.
+     */
+    public PriceMatrixDto toDto() {
+        return dto;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int supplierCount() {
+        return supplierIds.length;
+    }
+
+    public int productCount() {
+        return productIds.length;
+    }
+
+    public UUID supplierId(int row) {
+        return supplierIds[row];
+    }
+
+    public UUID productId(int column) {
+        return productIds[column];
+    }
+
+    /**
+     * Возвращает цену в копейках.
+     *
+     * @param row    индекс поставщика.
+     * @param column индекс продукта.
+     * @return цена в копейках или {@link #NO_PRICE}.
+     */
+    public long priceMinor(int row, int column) {
+        return pricesMinor[row * productIds.length + column];
+    }
+
+    /**
+     * Возвращает цену за килограмм.
+     *
+     * @param row    индекс поставщика.
+     * @param column индекс продукта.
+     * @return цена за килограмм или {@code null}, если цена отсутствует.
+     */
+    public BigDecimal pricePerKg(int row, int column) {
+        long minor = priceMinor(row, column);
+        return minor == NO_PRICE ? null : BigDecimal.valueOf(minor, MINOR_UNITS_SCALE);
+    }
+
+    private PriceMatrixDto buildDto() {
+        List<List<BigDecimal>> pricesPerKg = new ArrayList<>(supplierIds.length);
+        for (int row = 0; row < supplierIds.length; row++) {
+            BigDecimal[] rowPrices = new BigDecimal[productIds.length];
+            for (int column = 0; column < productIds.length; column++) {
+                rowPrices[column] = pricePerKg(row, column);
+            }
+            pricesPerKg.add(Collections.unmodifiableList(Arrays.asList(rowPrices)));
+        }
+        return new PriceMatrixDto(date, List.of(supplierIds), List.of(productIds),
+                Collections.unmodifiableList(pricesPerKg));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.supplymaster.service.reference;
+
+import com.example.supplymaster.config.ReferenceDataCacheProperties;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Кэш идентификаторов существующих поставщиков и продуктов.
+ * <p>
+ * Справочники меняются редко, поэтому при записи поставок их существование проверяется по кэшу,
+ * а сущности подключаются через {@code getReferenceById} без загрузки строк. В кэш попадают только
+ * найденные идентификаторы, поэтому созданные поставщики и продукты становятся доступны сразу.
+ * Записи вытесняются по размеру и времени хранения, а также сбрасываются явно через {@link #invalidateAll()}
+ * или для одного идентификатора через {@link ReferenceDataCacheEndpoint}.
+ */
+@Component
+public class ReferenceDataCache {
+    private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
+    private final Cache<UUID, Boolean> suppliers;
+    private final Cache<UUID, Boolean> products;
+
+    public ReferenceDataCache(SupplierRepository supplierRepository, ProductRepository productRepository,
+                              ReferenceDataCacheProperties properties, MeterRegistry meterRegistry) {
+        this.supplierRepository = supplierRepository;
+        this.productRepository = productRepository;
+        this.suppliers = CaffeineCacheMetrics.monitor(meterRegistry, newCache(properties), "reference.suppliers");
+        this.products = CaffeineCacheMetrics.monitor(meterRegistry, newCache(properties), "reference.products");
+    }
+
+    /**
+     * Проверяет, существует ли поставщик.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @return {@code true}, если поставщик существует.
+     */
+    public boolean supplierExists(UUID supplierId) {
+        return suppliers.get(supplierId, id -> supplierRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    /**
+     * Возвращает идентификаторы существующих продуктов из переданных.
+     * <p>
+     * Отсутствующие в кэше идентификаторы проверяются одним запросом к базе данных.
+     *
+     * @param productIds идентификаторы продуктов.
+     * @return идентификаторы найденных продуктов.
+     */
+    public Set<UUID> findExistingProductIds(Collection<UUID> productIds) {
+        return products.getAll(productIds, this::loadProducts).keySet();
+    }
+
+    /**
+     * Удаляет поставщика из кэша.
+     *
+     * @param supplierId идентификатор поставщика.
+     */
+    public void invalidateSupplier(UUID supplierId) {
+        suppliers.invalidate(supplierId);
+    }
+
+    /**
+     * Удаляет продукт из кэша.
+     *
+     * @param productId идентификатор продукта.
+     */
+    public void invalidateProduct(UUID productId) {
+        products.invalidate(productId);
+    }
+
+    /**
+     * Полностью очищает кэш поставщиков и продуктов.
+     */
+    public void invalidateAll() {
+        suppliers.invalidateAll();
+        products.invalidateAll();
+    }
+
+    /**
+     * Возвращает количество записей в кэше.
+     *
+     * @return Map количества записей по названию справочника.
+     */
+    public Map<String, Long> sizes() {
+        return Map.of("suppliers", suppliers.estimatedSize(), "products", products.estimatedSize());
+    }
+
+    private Map<UUID, Boolean> loadProducts(Set<? extends UUID> productIds) {
+        return productRepository.findExistingIds(Set.copyOf(productIds)).stream()
+                .collect(Collectors.toMap(Function.identity(), productId -> Boolean.TRUE));
+    }
+
+    private static Cache<UUID, Boolean> newCache(ReferenceDataCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
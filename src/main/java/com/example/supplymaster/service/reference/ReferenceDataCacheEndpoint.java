@@ -0,0 +1,62 @@
+package com.example.supplymaster.service.reference;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Эндпоинт Actuator для просмотра и очистки кэша справочных данных.
+ * <p>
+ * Кэш очищается целиком запросом {@code DELETE /actuator/referencecache} или для одной записи запросом
+ * {@code DELETE /actuator/referencecache/{suppliers|products}/{id}}.
+ * <p>
+ * Статистика попаданий и вытеснений доступна в метриках {@code cache.gets} и {@code cache.evictions}
+ * с тегом {@code cache=reference.suppliers} или {@code cache=reference.products}.
+ */
+@Component
+@Endpoint(id = "referencecache")
+@RequiredArgsConstructor
+public class ReferenceDataCacheEndpoint {
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Возвращает количество записей в кэше.
+     *
+     * @return Map количества записей по названию справочника.
+     */
+    @ReadOperation
+    public Map<String, Long> sizes() {
+        return referenceDataCache.sizes();
+    }
+
+    /**
+     * Очищает кэш поставщиков и продуктов.
+     */
+    @DeleteOperation
+    public void invalidate() {
+        referenceDataCache.invalidateAll();
+    }
+
+    /**
+     * Удаляет из кэша одного поставщика или продукт.
+     *
+     * @param dictionary название справочника: {@code suppliers} или {@code products}.
+     * @param id         идентификатор поставщика или продукта.
+     */
+    @DeleteOperation
+    public void invalidateEntry(@Selector String dictionary, @Selector UUID id) {
+        switch (dictionary) {
+            case "suppliers" -> referenceDataCache.invalidateSupplier(id);
+            case "products" -> referenceDataCache.invalidateProduct(id);
+            default -> throw new InvalidEndpointRequestException("Неизвестный справочник: " + dictionary,
+                    "Unknown dictionary");
+        }
+    }
+}
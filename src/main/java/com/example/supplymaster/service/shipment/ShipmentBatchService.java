@@ -0,0 +1,14 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.shipment.NewShipmentRequest;
+import com.example.supplymaster.dto.shipment.ShipmentBatchResultDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Сервис для пакетного создания отгрузок.
+ */
+public interface ShipmentBatchService {
+    List<ShipmentBatchResultDto> createShipments(UUID supplierId, List<NewShipmentRequest> requests);
+}
@@ -0,0 +1,211 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.config.ShipmentBatchProperties;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
+import com.example.supplymaster.dto.shipment.NewShipmentRequest;
+import com.example.supplymaster.dto.shipment.ShipmentBatchResultDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Shipment;
+import com.example.supplymaster.entity.Supplier;
+import com.example.supplymaster.error.exception.EntityNotFoundException;
+import com.example.supplymaster.event.ShipmentChangedEvent;
+import com.example.supplymaster.event.ShipmentSavedEvent;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentRollupJdbcRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.reference.ReferenceDataCache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для пакетного создания отгрузок.
+ * <p>
+ * Существование продуктов проверяется по кэшу справочных данных, а цены всех отгрузок пакета загружаются
+ * одним запросом. Отгрузки сохраняются через {@link EntityManager#persist}, который назначает идентификаторы
+ * без обращения к базе данных, а вставки объединяются в JDBC-пакеты Hibernate. Контекст персистентности
+ * периодически сбрасывается и очищается, чтобы его размер не рос вместе с пакетом, а сброшенные отгрузки
+ * добавляются к дневным итогам одним запросом.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class ShipmentBatchServiceImpl implements ShipmentBatchService {
+    private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
+    private final PriceResolver priceResolver;
+    private final EntityManager entityManager;
+    private final ShipmentBatchProperties properties;
+    private final ReferenceDataCache referenceDataCache;
+    private final ShipmentRollupJdbcRepository shipmentRollupJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Создает отгрузки поставщика.
+     * <p>
+     * Отгрузки с неизвестными продуктами или без действующей цены не сохраняются, причина возвращается
+     * в результате. Повторяющиеся в одной отгрузке продукты объединяются с суммированием веса.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param requests   отгрузки.
+     * @return результаты в порядке отгрузок в запросе.
+     */
+    @Override
+    public List<ShipmentBatchResultDto> createShipments(UUID supplierId, List<NewShipmentRequest> requests) {
+        if (!referenceDataCache.supplierExists(supplierId)) {
+            throw new EntityNotFoundException("Поставщик не найден с ID " + supplierId);
+        }
+        Supplier supplier = supplierRepository.getReferenceById(supplierId);
+
+        Set<UUID> productIds = requests.stream()
+                .flatMap(request -> request.getShipmentItems().stream())
+                .map(ShipmentItemRequest::getProductId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Product> products = referenceDataCache.findExistingProductIds(productIds).stream()
+                .collect(Collectors.toMap(productId -> productId, productRepository::getReferenceById));
+        Map<PriceQuoteItemRequest, BigDecimal> prices = resolvePrices(supplierId, requests, products);
+
+        List<ShipmentBatchResultDto> results = new ArrayList<>(requests.size());
+        List<UUID> pending = new ArrayList<>(properties.flushSize());
+        Set<LocalDate> shipmentDates = new HashSet<>();
+        List<ShipmentEventDto> savedShipments = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            NewShipmentRequest request = requests.get(i);
+            String error = validate(supplierId, request, products, prices);
+            if (error != null) {
+                results.add(new ShipmentBatchResultDto(i, null, error));
+                continue;
+            }
+
+            Shipment shipment = new Shipment();
+            shipment.setSupplier(supplier);
+            shipment.setShipmentDate(request.getShipmentDate());
+            mergeWeights(request.getShipmentItems()).forEach((productId, weightKg) -> {
+                BigDecimal price = prices.get(new PriceQuoteItemRequest(supplierId, productId,
+                        request.getShipmentDate()));
+                shipment.getShipmentItems().add(ShipmentServiceImpl.createShipmentItem(shipment,
+                        products.get(productId), weightKg, price));
+            });
+            entityManager.persist(shipment);
+            results.add(new ShipmentBatchResultDto(i, shipment.getId(), null));
+
+            pending.add(shipment.getId());
+            shipmentDates.add(shipment.getShipmentDate());
+            savedShipments.add(new ShipmentEventDto(ShipmentEventType.CREATED, shipment.getId(), supplierId,
+                    shipment.getShipmentDate()));
+            if (pending.size() == properties.flushSize()) {
+                flush(pending);
+            }
+        }
+        flush(pending);
+        if (!shipmentDates.isEmpty()) {
+            eventPublisher.publishEvent(new ShipmentChangedEvent(shipmentDates));
+            eventPublisher.publishEvent(new ShipmentSavedEvent(savedShipments));
+        }
+        return results;
+    }
+
+    /**
+     * Определяет цены для всех различных сочетаний продукт/дата пакета.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param requests   отгрузки.
+     * @param products   существующие продукты.
+     * @return Map цен за килограмм по сочетанию поставщик/продукт/дата; сочетания без цены отсутствуют.
+     */
+    private Map<PriceQuoteItemRequest, BigDecimal> resolvePrices(UUID supplierId, List<NewShipmentRequest> requests,
+                                                                Map<UUID, Product> products) {
+        Set<PriceQuoteItemRequest> keys = new LinkedHashSet<>();
+        for (NewShipmentRequest request : requests) {
+            for (ShipmentItemRequest item : request.getShipmentItems()) {
+                if (products.containsKey(item.getProductId())) {
+                    keys.add(new PriceQuoteItemRequest(supplierId, item.getProductId(), request.getShipmentDate()));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PriceQuoteItemRequest> items = new ArrayList<>(keys);
+        List<PricePeriodDto> periods = priceResolver.resolvePeriods(items);
+        Map<PriceQuoteItemRequest, BigDecimal> prices = new HashMap<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (periods.get(i) != null) {
+                prices.put(items.get(i), periods.get(i).getPricePerKg());
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Сбрасывает сохранённые отгрузки в базу данных, добавляет их к дневным итогам и очищает контекст
+     * персистентности.
+     *
+     * @param pending идентификаторы отгрузок, ещё не добавленных к итогам.
+     */
+    private void flush(List<UUID> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        shipmentRollupJdbcRepository.addShipments(List.copyOf(pending));
+        entityManager.clear();
+        pending.clear();
+    }
+
+    private Map<UUID, BigDecimal> mergeWeights(List<ShipmentItemRequest> items) {
+        Map<UUID, BigDecimal> weights = new LinkedHashMap<>();
+        for (ShipmentItemRequest item : items) {
+            weights.merge(item.getProductId(), item.getWeightKg(), BigDecimal::add);
+        }
+        return weights;
+    }
+
+    /**
+     * Проверяет, что отгрузка содержит товары, все продукты существуют и имеют цену на дату отгрузки.
+     *
+     * @return описание ошибки или {@code null}, если отгрузка корректна.
+     */
+    private String validate(UUID supplierId, NewShipmentRequest request, Map<UUID, Product> products,
+                            Map<PriceQuoteItemRequest, BigDecimal> prices) {
+        if (request.getShipmentItems().isEmpty()) {
+            return "Отгрузка не содержит товаров";
+        }
+        for (ShipmentItemRequest item : request.getShipmentItems()) {
+            if (item.getWeightKg() == null || item.getWeightKg().signum() <= 0) {
+                return "Вес товара должен быть положительным";
+            }
+            if (!products.containsKey(item.getProductId())) {
+                return "Продукт не найден с ID " + item.getProductId();
+            }
+            if (!prices.containsKey(new PriceQuoteItemRequest(supplierId, item.getProductId(),
+                    request.getShipmentDate()))) {
+                return "Цена не найдена для продукта с ID " + item.getProductId();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.product.ProductDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.dto.supplier.SupplierDto;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Сервис для получения графа отгрузок в GraphQL.
+ * <p>
+ * Связанные данные загружаются сразу для всех запрошенных отгрузок, поэтому количество запросов к базе
+ * данных не зависит от количества отгрузок.
+ */
+public interface ShipmentGraphService {
+
+    List<ShipmentHeaderDto> getShipments(UUID supplierId, LocalDate startDate, LocalDate endDate, int limit);
+
+    List<ShipmentHeaderDto> getShipmentsByIds(List<UUID> shipmentIds);
+
+    Map<UUID, List<ShipmentItemReportGraphDto>> getShipmentItems(Collection<UUID> shipmentIds,
+                                                                 Set<ShipmentItemField> fields);
+
+    Map<UUID, SupplierDto> getSuppliers(Collection<UUID> supplierIds);
+
+    Map<UUID, ProductDto> getProducts(Collection<UUID> productIds);
+}
@@ -0,0 +1,118 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.product.ProductDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.dto.supplier.SupplierDto;
+import com.example.supplymaster.error.exception.ValidationException;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentItemJdbcRepository;
+import com.example.supplymaster.repository.ShipmentRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для получения графа отгрузок в GraphQL.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ShipmentGraphServiceImpl implements ShipmentGraphService {
+    private static final int MAX_SHIPMENTS = 500;
+
+    private final ShipmentRepository shipmentRepository;
+    private final ShipmentItemJdbcRepository shipmentItemJdbcRepository;
+    private final SupplierRepository supplierRepository;
+    private final ProductRepository productRepository;
+    private final ShipmentMapper shipmentMapper;
+
+    /**
+     * Получает отгрузки поставщика за период в порядке даты отгрузки.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param startDate  начальная дата периода.
+     * @param endDate    конечная дата периода.
+     * @param limit      максимальное количество отгрузок.
+     * @return список заголовков отгрузок.
+     */
+    @Override
+    public List<ShipmentHeaderDto> getShipments(UUID supplierId, LocalDate startDate, LocalDate endDate, int limit) {
+        if (limit < 1 || limit > MAX_SHIPMENTS) {
+            throw new ValidationException("Количество отгрузок должно быть от 1 до " + MAX_SHIPMENTS);
+        }
+        return shipmentRepository.findHeaders(supplierId, startDate, endDate, Limit.of(limit));
+    }
+
+    /**
+     * Получает отгрузки по идентификаторам в порядке запроса. Ненайденные отгрузки пропускаются.
+     *
+     * @param shipmentIds идентификаторы отгрузок.
+     * @return список заголовков отгрузок.
+     */
+    @Override
+    public List<ShipmentHeaderDto> getShipmentsByIds(List<UUID> shipmentIds) {
+        if (shipmentIds.size() > MAX_SHIPMENTS) {
+            throw new ValidationException("Количество отгрузок не должно превышать " + MAX_SHIPMENTS);
+        }
+        Map<UUID, ShipmentHeaderDto> headers = shipmentRepository.findHeadersByIdIn(shipmentIds).stream()
+                .collect(Collectors.toMap(ShipmentHeaderDto::getId, Function.identity()));
+        return shipmentIds.stream()
+                .map(headers::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Получает товары нескольких отгрузок одним запросом, читая только столбцы запрошенных полей.
+     *
+     * @param shipmentIds идентификаторы отгрузок.
+     * @param fields      запрошенные поля товара.
+     * @return Map товаров по идентификатору отгрузки.
+     */
+    @Override
+    public Map<UUID, List<ShipmentItemReportGraphDto>> getShipmentItems(Collection<UUID> shipmentIds,
+                                                                        Set<ShipmentItemField> fields) {
+        return shipmentItemJdbcRepository.findProjections(shipmentIds, fields);
+    }
+
+    /**
+     * Получает поставщиков одним запросом.
+     *
+     * @param supplierIds идентификаторы поставщиков.
+     * @return Map поставщиков по идентификатору.
+     */
+    @Override
+    public Map<UUID, SupplierDto> getSuppliers(Collection<UUID> supplierIds) {
+        return supplierRepository.findAllById(supplierIds).stream()
+                .map(shipmentMapper::toSupplierDto)
+                .collect(Collectors.toMap(SupplierDto::getId, Function.identity()));
+    }
+
+    /**
+     * Получает продукты одним запросом.
+     *
+     * @param productIds идентификаторы продуктов.
+     * @return Map продуктов по идентификатору.
+     */
+    @Override
+    public Map<UUID, ProductDto> getProducts(Collection<UUID> productIds) {
+        return productRepository.findAllById(productIds).stream()
+                .map(shipmentMapper::toProductDto)
+                .collect(Collectors.toMap(ProductDto::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.service.shipment.export.ShipmentReportExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Сервис для потоковой выгрузки отчета о поставках.
+ */
+public interface ShipmentReportExportService {
+    void exportShipmentsReport(LocalDate startDate, LocalDate endDate, ShipmentReportExportFormat format,
+                               OutputStream outputStream) throws IOException;
+}
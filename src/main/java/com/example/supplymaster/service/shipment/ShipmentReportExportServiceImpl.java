@@ -0,0 +1,115 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.shipment.ResponseShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ResponseShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
+import com.example.supplymaster.service.shipment.export.ShipmentReportExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Реализация сервиса для потоковой выгрузки отчета о поставках.
+ * <p>
+ * Строки отчета читаются из базы данных порциями и сразу записываются в выходной поток, поэтому расход
+ * памяти не зависит от длины периода. Строки приходят упорядоченными по поставщику, что позволяет
+ * группировать их по мере чтения: в памяти хранятся только товары текущего поставщика.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ShipmentReportExportServiceImpl implements ShipmentReportExportService {
+    private static final String CSV_HEADER = "supplierId,supplierName,productId,productName,totalWeightKg,totalPrice";
+
+    private final ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Записывает отчет о поставках за период в выходной поток.
+     *
+     * @param startDate    начальная дата периода.
+     * @param endDate      конечная дата периода.
+     * @param format       формат выгрузки.
+     * @param outputStream выходной поток.
+     * @throws IOException если запись в поток не удалась.
+     */
+    @Override
+    public void exportShipmentsReport(LocalDate startDate, LocalDate endDate, ShipmentReportExportFormat format,
+                                      OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<ShipmentItemDto> rows = shipmentDailyRollupRepository.streamProductShipmentSummary(startDate,
+                endDate)) {
+            switch (format) {
+                case CSV -> writeCsv(rows.iterator(), writer);
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Записывает строки отчета в формате CSV, по одной строке на сочетание поставщик/продукт.
+     */
+    private void writeCsv(Iterator<ShipmentItemDto> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            ShipmentItemDto row = rows.next();
+            writer.write(String.join(",",
+                    row.getSupplierId().toString(),
+                    escapeCsv(row.getSupplierName()),
+                    row.getProductId().toString(),
+                    escapeCsv(row.getProductName()),
+                    row.getTotalWeightKg().toPlainString(),
+                    row.getTotalPrice().toPlainString()));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Записывает отчет в формате NDJSON, по одной строке на поставщика со списком его товаров.
+     */
+    private void writeNdjson(Iterator<ShipmentItemDto> rows, Writer writer) throws IOException {
+        ResponseShipmentReportDto current = null;
+        while (rows.hasNext()) {
+            ShipmentItemDto row = rows.next();
+            if (current == null || !current.getSupplierId().equals(row.getSupplierId())) {
+                writeJsonLine(current, writer);
+                current = new ResponseShipmentReportDto(row.getSupplierId(), row.getSupplierName(),
+                        new ArrayList<>());
+            }
+            current.getShipments().add(new ResponseShipmentItemDto(row.getProductId(), row.getProductName(),
+                    row.getTotalWeightKg(), row.getTotalPrice()));
+        }
+        writeJsonLine(current, writer);
+    }
+
+    private void writeJsonLine(ResponseShipmentReportDto report, Writer writer) throws IOException {
+        if (report == null) {
+            return;
+        }
+        writer.write(objectMapper.writeValueAsString(report));
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.supplymaster.service.shipment;
 
+import com.example.supplymaster.dto.page.CursorPageDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
 import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
 import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,7 +27,21 @@ public interface ShipmentService {
     UUID updateShipment(UUID shipmentId, UUID supplierId, LocalDate shipmentDate,
                         List<ShipmentItemRequest> requestShipmentItems);
 
+    UUID addShipmentWeights(UUID shipmentId, UUID supplierId, LocalDate shipmentDate,
+                            List<ShipmentItemRequest> requestShipmentItems);
+
     List<ShipmentReportDto> getShipmentsReport(LocalDate startDate, LocalDate endDate);
 
-    List<ShipmentItemReportGraphDto> getShipmentItemsReports(UUID shipmentId);
+    List<ShipmentSeriesDto> getShipmentsReportSeries(LocalDate startDate, LocalDate endDate,
+                                                     ShipmentReportGranularity granularity);
+
+    List<ShipmentTopItemDto> getTopShipments(LocalDate startDate, LocalDate endDate, ShipmentTopDimension dimension,
+                                             ShipmentTopMetric metric, int limit);
+
+    List<ShipmentItemReportGraphDto> getShipmentItemsReports(UUID shipmentId, Set<ShipmentItemField> fields);
+
+    CursorPageDto<ShipmentHeaderDto> getShipmentsPage(UUID supplierId, int limit, String after);
+
+    CursorPageDto<ShipmentItemReportGraphDto> getShipmentItemsPage(UUID shipmentId, int limit, String after,
+                                                                   Set<ShipmentItemField> fields);
 }
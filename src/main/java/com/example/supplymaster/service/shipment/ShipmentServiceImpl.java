@@ -1,11 +1,19 @@
 package com.example.supplymaster.service.shipment;
 
-import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.page.CursorPageDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
 import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
 import com.example.supplymaster.dto.shipment.ShipmentReportDto;
-import com.example.supplymaster.entity.Price;
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
 import com.example.supplymaster.entity.Product;
 import com.example.supplymaster.entity.Shipment;
 import com.example.supplymaster.entity.ShipmentItem;
@@ -13,18 +21,33 @@ import com.example.supplymaster.entity.ShipmentItemKey;
 import com.example.supplymaster.entity.Supplier;
 import com.example.supplymaster.error.exception.AccessDeniedException;
 import com.example.supplymaster.error.exception.EntityNotFoundException;
-import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.error.exception.ValidationException;
+import com.example.supplymaster.event.ShipmentChangedEvent;
+import com.example.supplymaster.event.ShipmentSavedEvent;
+import com.example.supplymaster.metrics.ReportJfrEvent;
+import com.example.supplymaster.metrics.ShipmentWriteJfrEvent;
 import com.example.supplymaster.repository.ProductRepository;
-import com.example.supplymaster.repository.ShipmentItemRepository;
+import com.example.supplymaster.repository.ShipmentItemJdbcRepository;
+import com.example.supplymaster.repository.ShipmentJdbcRepository;
 import com.example.supplymaster.repository.ShipmentRepository;
+import com.example.supplymaster.repository.ShipmentRollupJdbcRepository;
 import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.reference.ReferenceDataCache;
+import com.example.supplymaster.service.shipment.cursor.ShipmentCursors;
+import com.example.supplymaster.service.shipment.report.PartitionedShipmentSummaryLoader;
+import com.example.supplymaster.service.shipment.report.ShipmentReportCache;
+import com.example.supplymaster.service.shipment.report.ShipmentReportRanking;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,17 +57,28 @@ import java.util.stream.Collectors;
 
 /**
  * Реализация сервиса для управления отгрузками.
+ * <p>
+ * Вместе с отгрузками в той же транзакции поддерживаются дневные итоги, по которым строятся отчеты.
+ * Об изменении отгрузок публикуются {@link ShipmentChangedEvent} и {@link ShipmentSavedEvent}.
  */
 @RequiredArgsConstructor
 @Service
 @Transactional
 public class ShipmentServiceImpl implements ShipmentService {
+    private static final int MAX_TOP_LIMIT = 100;
+    private static final int MAX_PAGE_LIMIT = 1000;
+
     private final ShipmentRepository shipmentRepository;
-    private final PriceRepository priceRepository;
+    private final PriceResolver priceResolver;
     private final ProductRepository productRepository;
-    private final ShipmentItemRepository shipmentItemRepository;
+    private final ShipmentItemJdbcRepository shipmentItemJdbcRepository;
+    private final ShipmentJdbcRepository shipmentJdbcRepository;
+    private final PartitionedShipmentSummaryLoader shipmentSummaryLoader;
+    private final ShipmentRollupJdbcRepository shipmentRollupJdbcRepository;
     private final SupplierRepository supplierRepository;
-    private final ShipmentMapper shipmentMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final ShipmentReportCache shipmentReportCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Создает новую отгрузку для указанного поставщика.
@@ -56,26 +90,30 @@ public class ShipmentServiceImpl implements ShipmentService {
      */
     @Override
     public UUID createShipment(UUID supplierId, LocalDate shipmentDate, List<ShipmentItemRequest> requestShipmentItems) {
-        Supplier supplier = supplierRepository.findById(supplierId)
-                .orElseThrow(() -> new EntityNotFoundException("Поставщик не найден с ID " + supplierId));
+        if (!referenceDataCache.supplierExists(supplierId)) {
+            throw new EntityNotFoundException("Поставщик не найден с ID " + supplierId);
+        }
+        ShipmentWriteJfrEvent jfrEvent = ShipmentWriteJfrEvent.start();
 
         Shipment shipment = new Shipment();
-        shipment.setSupplier(supplier);
+        shipment.setSupplier(supplierRepository.getReferenceById(supplierId));
         shipment.setShipmentDate(shipmentDate);
 
         Set<UUID> productIds = requestShipmentItems.stream()
                 .map(ShipmentItemRequest::getProductId)
                 .collect(Collectors.toSet());
 
+        jfrEvent.resolutionStarted();
         Map<UUID, Product> existProducts = getExistProducts(productIds);
 
-        Map<UUID, Price> supplierProductPrices = getSupplierProductPrices(supplierId, productIds, shipmentDate);
+        Map<UUID, BigDecimal> supplierProductPrices = priceResolver.resolvePrices(supplierId, productIds, shipmentDate);
+        jfrEvent.resolutionFinished();
 
         Set<ShipmentItem> shipmentItems = new HashSet<>();
 
         for (ShipmentItemRequest requestItem : requestShipmentItems) {
             UUID productId = requestItem.getProductId();
-            Price price = supplierProductPrices.get(productId);
+            BigDecimal price = supplierProductPrices.get(productId);
             Product product = existProducts.get(productId);
             validateProduct(product, price);
 
@@ -86,7 +124,15 @@ public class ShipmentServiceImpl implements ShipmentService {
         }
         shipment.setShipmentItems(shipmentItems);
 
-        return shipmentRepository.save(shipment).getId();
+        jfrEvent.persistStarted();
+        UUID shipmentId = shipmentRepository.save(shipment).getId();
+        shipmentRepository.flush();
+        shipmentRollupJdbcRepository.addShipments(List.of(shipmentId));
+        jfrEvent.persistFinished();
+        jfrEvent.commit(ShipmentEventType.CREATED, supplierId, shipmentItems.size());
+        eventPublisher.publishEvent(new ShipmentChangedEvent(Set.of(shipmentDate)));
+        publishShipmentSaved(ShipmentEventType.CREATED, shipmentId, supplierId, shipmentDate);
+        return shipmentId;
     }
 
     /**
@@ -101,21 +147,27 @@ public class ShipmentServiceImpl implements ShipmentService {
     @Override
     public UUID updateShipment(UUID shipmentId, UUID supplierId,
                                LocalDate shipmentDate, List<ShipmentItemRequest> requestShipmentItems) {
+        ShipmentWriteJfrEvent jfrEvent = ShipmentWriteJfrEvent.start();
+        shipmentRepository.lockById(shipmentId);
         Shipment existsShipment = shipmentRepository.findFetchById(shipmentId).orElseThrow(() ->
                 new EntityNotFoundException("Поставка с ID " + shipmentId + " не найден в базе данных"));
         if (!existsShipment.getSupplier().getId().equals(supplierId)) {
             throw new AccessDeniedException("Вы не можете изменить эту поставку.");
         }
+        shipmentRollupJdbcRepository.subtractShipment(shipmentId);
+        LocalDate previousShipmentDate = existsShipment.getShipmentDate();
         Optional.ofNullable(shipmentDate).ifPresent(existsShipment::setShipmentDate);
 
         Set<UUID> allProductIds = new HashSet<>();
         requestShipmentItems.forEach(rsi -> allProductIds.add(rsi.getProductId()));
         existsShipment.getShipmentItems().forEach(si -> allProductIds.add(si.getProduct().getId()));
 
+        jfrEvent.resolutionStarted();
         Map<UUID, Product> existProducts = getExistProducts(allProductIds);
 
-        Map<UUID, Price> supplierProductPrices = getSupplierProductPrices(supplierId, allProductIds,
+        Map<UUID, BigDecimal> supplierProductPrices = priceResolver.resolvePrices(supplierId, allProductIds,
                 existsShipment.getShipmentDate());
+        jfrEvent.resolutionFinished();
 
         Map<UUID, ShipmentItem> shipmentProduct = existsShipment.getShipmentItems().stream()
                 .collect(Collectors.toMap(existsShipmentItem -> existsShipmentItem.getProduct().getId(),
@@ -124,7 +176,7 @@ public class ShipmentServiceImpl implements ShipmentService {
         for (ShipmentItemRequest requestItem : requestShipmentItems) {
             UUID productId = requestItem.getProductId();
             Product product = existProducts.get(productId);
-            Price price = supplierProductPrices.get(productId);
+            BigDecimal price = supplierProductPrices.get(productId);
             validateProduct(product, price);
 
             Optional.ofNullable(shipmentProduct.get(productId))
@@ -141,27 +193,191 @@ public class ShipmentServiceImpl implements ShipmentService {
                             }
                     );
         }
-        return shipmentRepository.save(existsShipment).getId();
+        jfrEvent.persistStarted();
+        shipmentRepository.save(existsShipment);
+        shipmentRepository.flush();
+        shipmentRollupJdbcRepository.addShipments(List.of(shipmentId));
+        jfrEvent.persistFinished();
+        jfrEvent.commit(ShipmentEventType.UPDATED, supplierId, existsShipment.getShipmentItems().size());
+        publishShipmentChanged(previousShipmentDate, existsShipment.getShipmentDate());
+        publishShipmentSaved(ShipmentEventType.UPDATED, shipmentId, supplierId, existsShipment.getShipmentDate());
+        return shipmentId;
+    }
+
+    /**
+     * Добавляет вес товарам существующей отгрузки без загрузки её в контекст персистентности.
+     * <p>
+     * Принадлежность отгрузки поставщику проверяется по заголовку, а вес добавляется одним запросом
+     * INSERT ... ON CONFLICT, поэтому одновременные изменения одной отгрузки не теряются, а количество
+     * запросов не зависит от количества товаров в отгрузке.
+     *
+     * @param shipmentId           идентификатор отгрузки.
+     * @param supplierId           идентификатор поставщика.
+     * @param shipmentDate         новая дата отгрузки.
+     * @param requestShipmentItems добавляемые товары.
+     * @return UUID обновленной отгрузки.
+     */
+    @Override
+    public UUID addShipmentWeights(UUID shipmentId, UUID supplierId, LocalDate shipmentDate,
+                                   List<ShipmentItemRequest> requestShipmentItems) {
+        ShipmentWriteJfrEvent jfrEvent = ShipmentWriteJfrEvent.start();
+        shipmentRepository.lockById(shipmentId);
+        ShipmentHeaderDto header = shipmentRepository.findHeaderById(shipmentId).orElseThrow(() ->
+                new EntityNotFoundException("Поставка с ID " + shipmentId + " не найден в базе данных"));
+        if (!header.getSupplierId().equals(supplierId)) {
+            throw new AccessDeniedException("Вы не можете изменить эту поставку.");
+        }
+        boolean dateChanged = shipmentDate != null && !shipmentDate.equals(header.getShipmentDate());
+        if (!dateChanged && requestShipmentItems.isEmpty()) {
+            return shipmentId;
+        }
+        shipmentRollupJdbcRepository.subtractShipment(shipmentId);
+        LocalDate previousShipmentDate = header.getShipmentDate();
+        if (dateChanged) {
+            shipmentRepository.updateShipmentDate(shipmentId, shipmentDate);
+            header.setShipmentDate(shipmentDate);
+        }
+        if (requestShipmentItems.isEmpty()) {
+            shipmentRollupJdbcRepository.addShipments(List.of(shipmentId));
+            publishShipmentChanged(previousShipmentDate, header.getShipmentDate());
+            publishShipmentSaved(ShipmentEventType.UPDATED, shipmentId, supplierId, header.getShipmentDate());
+            return shipmentId;
+        }
 
+        Map<UUID, BigDecimal> weights = new LinkedHashMap<>();
+        requestShipmentItems.forEach(rsi -> weights.merge(rsi.getProductId(), rsi.getWeightKg(), BigDecimal::add));
+
+        jfrEvent.resolutionStarted();
+        Map<UUID, Product> existProducts = getExistProducts(weights.keySet());
+        Map<UUID, BigDecimal> supplierProductPrices = priceResolver.resolvePrices(supplierId, weights.keySet(),
+                header.getShipmentDate());
+        jfrEvent.resolutionFinished();
+        weights.keySet().forEach(productId ->
+                validateProduct(existProducts.get(productId), supplierProductPrices.get(productId)));
+
+        jfrEvent.persistStarted();
+        shipmentItemJdbcRepository.addWeights(shipmentId, weights, supplierProductPrices);
+        shipmentRollupJdbcRepository.addShipments(List.of(shipmentId));
+        jfrEvent.persistFinished();
+        jfrEvent.commit(ShipmentEventType.UPDATED, supplierId, weights.size());
+        publishShipmentChanged(previousShipmentDate, header.getShipmentDate());
+        publishShipmentSaved(ShipmentEventType.UPDATED, shipmentId, supplierId, header.getShipmentDate());
+        return shipmentId;
     }
 
     /**
      * Получает отчет по отгрузкам за заданный период.
+     * <p>
+     * Отчет строится по дневным итогам, поэтому его стоимость зависит от количества дней в периоде,
+     * а не от количества товаров в отгрузках. Построенные отчеты кэшируются до изменения отгрузок
+     * внутри периода.
+     * <p>
+     * Метод выполняется вне транзакции: части длинного периода читаются в собственных транзакциях,
+     * и вызывающий поток не должен держать соединение, пока ждет их.
      *
      * @param startDate начальная дата периода.
      * @param endDate   конечная дата периода.
      * @return список отчетов по отгрузкам.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ShipmentReportDto> getShipmentsReport(LocalDate startDate, LocalDate endDate) {
-        List<ShipmentItemDto> productSummaries = shipmentRepository.getProductShipmentSummary(startDate, endDate);
+        return shipmentReportCache.get(startDate, endDate, () -> buildShipmentsReport(startDate, endDate));
+    }
 
-        Map<UUID, List<ShipmentItemDto>> supplierShipments = productSummaries.stream()
-                .collect(Collectors.groupingBy(ShipmentItemDto::getSupplierId));
+    /**
+     * Получает временные ряды отгрузок товаров за заданный период.
+     * <p>
+     * Ряды всех поставщиков и товаров строятся одним запросом по дневным итогам, поэтому один вызов
+     * заменяет серию отчетов за отдельные дни, недели или месяцы.
+     *
+     * @param startDate   начальная дата периода.
+     * @param endDate     конечная дата периода.
+     * @param granularity шаг временного ряда.
+     * @return временные ряды по паре поставщик/товар.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShipmentSeriesDto> getShipmentsReportSeries(LocalDate startDate, LocalDate endDate,
+                                                            ShipmentReportGranularity granularity) {
+        return shipmentRollupJdbcRepository.getProductShipmentSeries(startDate, endDate, granularity);
+    }
+
+    /**
+     * Получает первых поставщиков или товары по весу или стоимости отгрузок за период.
+     * <p>
+     * Если отчет за период уже есть в кэше, рейтинг строится по нему в памяти, иначе сортировка
+     * и ограничение выполняются в базе данных. В обоих случаях расход памяти зависит только от размера
+     * рейтинга.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param dimension измерение рейтинга.
+     * @param metric    показатель рейтинга.
+     * @param limit     количество строк рейтинга.
+     * @return строки рейтинга в порядке убывания показателя.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShipmentTopItemDto> getTopShipments(LocalDate startDate, LocalDate endDate,
+                                                    ShipmentTopDimension dimension, ShipmentTopMetric metric,
+                                                    int limit) {
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new ValidationException("Размер рейтинга должен быть от 1 до " + MAX_TOP_LIMIT);
+        }
+        List<ShipmentReportDto> cachedReport = shipmentReportCache.getIfPresent(startDate, endDate);
+        if (cachedReport != null) {
+            return ShipmentReportRanking.rank(cachedReport, dimension, metric, limit);
+        }
+        return shipmentRollupJdbcRepository.getTopShipments(startDate, endDate, dimension, metric, limit);
+    }
+
+    /**
+     * Строит отчет по отгрузкам за заданный период по дневным итогам.
+     * <p>
+     * Длинные периоды агрегируются по частям параллельно.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @return список отчетов по отгрузкам.
+     */
+    private List<ShipmentReportDto> buildShipmentsReport(LocalDate startDate, LocalDate endDate) {
+        ReportJfrEvent jfrEvent = ReportJfrEvent.start();
+        jfrEvent.aggregationStarted();
+        List<ShipmentItemDto> productSummaries = shipmentSummaryLoader.load(startDate, endDate);
+        jfrEvent.aggregationFinished();
+
+        Map<UUID, List<ShipmentItemDto>> supplierShipments = groupBySupplier(productSummaries);
 
         Map<UUID, Supplier> supplierMap = supplierRepository.findAllById(supplierShipments.keySet()).stream()
                 .collect(Collectors.toMap(Supplier::getId, p -> p));
 
+        jfrEvent.assemblyStarted();
+        List<ShipmentReportDto> report = toShipmentReports(supplierShipments, supplierMap);
+        jfrEvent.assemblyFinished();
+        jfrEvent.commit("shipments", startDate, endDate, productSummaries.size());
+        return report;
+    }
+
+    /**
+     * Группирует итоги товаров по поставщику.
+     *
+     * @param productSummaries итоги поставок товаров.
+     * @return итоги товаров по идентификатору поставщика.
+     */
+    static Map<UUID, List<ShipmentItemDto>> groupBySupplier(List<ShipmentItemDto> productSummaries) {
+        return productSummaries.stream()
+                .collect(Collectors.groupingBy(ShipmentItemDto::getSupplierId));
+    }
+
+    /**
+     * Собирает отчеты по поставщикам из сгруппированных итогов товаров.
+     *
+     * @param supplierShipments итоги товаров по идентификатору поставщика.
+     * @param supplierMap       поставщики по идентификатору.
+     * @return список отчетов по отгрузкам.
+     */
+    static List<ShipmentReportDto> toShipmentReports(Map<UUID, List<ShipmentItemDto>> supplierShipments,
+                                                     Map<UUID, Supplier> supplierMap) {
         return supplierShipments.entrySet().stream()
                 .map(entry -> new ShipmentReportDto(
                         entry.getKey(),
@@ -173,48 +389,131 @@ public class ShipmentServiceImpl implements ShipmentService {
 
     /**
      * Получает отчет о товарах в конкретной отгрузке.
+     * <p>
+     * Из базы данных читаются только столбцы запрошенных полей, без загрузки сущностей.
      *
      * @param shipmentId идентификатор отгрузки.
+     * @param fields     запрошенные поля товара.
      * @return список товаров в отгрузке с их характеристиками.
      */
     @Override
-    public List<ShipmentItemReportGraphDto> getShipmentItemsReports(UUID shipmentId) {
-        return shipmentItemRepository.findAllByShipmentId(shipmentId).stream()
-                .map(shipmentMapper::toGraphDto).toList();
+    @Transactional(readOnly = true)
+    public List<ShipmentItemReportGraphDto> getShipmentItemsReports(UUID shipmentId, Set<ShipmentItemField> fields) {
+        return shipmentItemJdbcRepository.findProjections(List.of(shipmentId), fields)
+                .getOrDefault(shipmentId, List.of());
+    }
+
+    /**
+     * Получает страницу отгрузок поставщика в порядке даты и идентификатора отгрузки.
+     * <p>
+     * Страница читается по курсору последней отгрузки предыдущей страницы, поэтому её стоимость
+     * не зависит от того, сколько отгрузок уже прочитано. Для определения наличия следующей страницы
+     * читается одна лишняя строка.
+     *
+     * @param supplierId идентификатор поставщика.
+     * @param limit      размер страницы.
+     * @param after      курсор предыдущей страницы или {@code null} для первой страницы.
+     * @return страница отгрузок.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ShipmentHeaderDto> getShipmentsPage(UUID supplierId, int limit, String after) {
+        validatePageLimit(limit);
+        ShipmentCursors.ShipmentPosition position = after == null ? null : ShipmentCursors.parseShipment(after);
+        List<ShipmentHeaderDto> shipments = shipmentJdbcRepository.findHeadersPage(supplierId,
+                position == null ? null : position.shipmentDate(),
+                position == null ? null : position.shipmentId(), limit + 1);
+        if (shipments.size() <= limit) {
+            return new CursorPageDto<>(shipments, null);
+        }
+        List<ShipmentHeaderDto> page = shipments.subList(0, limit);
+        return new CursorPageDto<>(List.copyOf(page), ShipmentCursors.ofShipment(page.getLast()));
+    }
+
+    /**
+     * Получает страницу товаров отгрузки в порядке идентификатора продукта.
+     * <p>
+     * Страница читается по курсору последнего товара предыдущей страницы; из базы данных читаются только
+     * столбцы запрошенных полей и идентификатор продукта.
+     *
+     * @param shipmentId идентификатор отгрузки.
+     * @param limit      размер страницы.
+     * @param after      курсор предыдущей страницы или {@code null} для первой страницы.
+     * @param fields     запрошенные поля товара.
+     * @return страница товаров отгрузки.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ShipmentItemReportGraphDto> getShipmentItemsPage(UUID shipmentId, int limit, String after,
+                                                                          Set<ShipmentItemField> fields) {
+        validatePageLimit(limit);
+        UUID afterProductId = after == null ? null : ShipmentCursors.parseShipmentItem(after);
+        List<ShipmentItemReportGraphDto> items = shipmentItemJdbcRepository.findPage(shipmentId, afterProductId,
+                limit + 1, fields);
+        if (items.size() <= limit) {
+            return new CursorPageDto<>(items, null);
+        }
+        List<ShipmentItemReportGraphDto> page = items.subList(0, limit);
+        return new CursorPageDto<>(List.copyOf(page), ShipmentCursors.ofShipmentItem(page.getLast()));
     }
 
     /**
      * Получает Map существующих продуктов по их идентификаторам.
+     * <p>
+     * Существование продуктов проверяется по кэшу справочных данных, а продукты подключаются как ссылки
+     * без загрузки из базы данных.
      *
      * @param productIds список идентификаторов продуктов.
      * @return Map продуктов.
      */
     private Map<UUID, Product> getExistProducts(Set<UUID> productIds) {
-        return productRepository.findAllById(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
+        return referenceDataCache.findExistingProductIds(productIds).stream()
+                .collect(Collectors.toMap(productId -> productId, productRepository::getReferenceById));
     }
 
     /**
-     * Получает Map цен для продуктов поставщика на указанную дату.
+     * Публикует событие изменения отгрузки с прежней и новой датой.
      *
+     * @param previousShipmentDate дата отгрузки до изменения.
+     * @param shipmentDate         дата отгрузки после изменения.
+     */
+    private void publishShipmentChanged(LocalDate previousShipmentDate, LocalDate shipmentDate) {
+        eventPublisher.publishEvent(new ShipmentChangedEvent(Set.copyOf(List.of(previousShipmentDate,
+                shipmentDate))));
+    }
+
+    /**
+     * Публикует событие сохранения отгрузки для подписчиков.
+     *
+     * @param type         тип события.
+     * @param shipmentId   идентификатор отгрузки.
      * @param supplierId   идентификатор поставщика.
-     * @param productIds   список идентификаторов продуктов.
      * @param shipmentDate дата отгрузки.
-     * @return Map цен.
      */
-    private Map<UUID, Price> getSupplierProductPrices(UUID supplierId, Set<UUID> productIds, LocalDate shipmentDate) {
-        return priceRepository.findPriceForSupplierProducts(supplierId,
-                        productIds, shipmentDate).stream()
-                .collect(Collectors.toMap(price -> price.getProduct().getId(), p -> p));
+    private void publishShipmentSaved(ShipmentEventType type, UUID shipmentId, UUID supplierId,
+                                      LocalDate shipmentDate) {
+        eventPublisher.publishEvent(new ShipmentSavedEvent(List.of(new ShipmentEventDto(type, shipmentId,
+                supplierId, shipmentDate))));
+    }
+
+    /**
+     * Проверяет размер страницы.
+     *
+     * @param limit размер страницы.
+     */
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new ValidationException("Размер страницы должен быть от 1 до " + MAX_PAGE_LIMIT);
+        }
     }
 
     /**
      * Проверяет, существует ли продукт и его цена.
      *
      * @param product продукт.
-     * @param price   цена.
+     * @param price   цена за килограмм.
      */
-    private void validateProduct(Product product, Price price) {
+    private void validateProduct(Product product, BigDecimal price) {
         if (product == null) {
             throw new EntityNotFoundException("Продукт не найден в базе данных");
         }
@@ -230,18 +529,18 @@ public class ShipmentServiceImpl implements ShipmentService {
      * @param shipment Объект {@link Shipment}, к которому относится данный товар.
      * @param product  Объект {@link Product}, который включен в отгрузку.
      * @param weightKg Вес товара в килограммах.
-     * @param price    Объект {@link Price}, содержащий информацию о цене за килограмм.
+     * @param price    Цена за килограмм.
      * @return Новый экземпляр {@link ShipmentItem} с заданными параметрами.
      */
-    private ShipmentItem createShipmentItem(Shipment shipment, Product product,
-                                            BigDecimal weightKg, Price price) {
+    static ShipmentItem createShipmentItem(Shipment shipment, Product product,
+                                           BigDecimal weightKg, BigDecimal price) {
         ShipmentItem shipmentItem = new ShipmentItem();
         shipmentItem.setId(new ShipmentItemKey());
         shipmentItem.setShipment(shipment);
         shipmentItem.setProduct(product);
         shipmentItem.setWeightKg(weightKg);
-        shipmentItem.setPricePerKg(price.getPricePerKg());
-        shipmentItem.setTotalPrice(price.getPricePerKg().multiply(weightKg));
+        shipmentItem.setPricePerKg(price);
+        shipmentItem.setTotalPrice(price.multiply(weightKg));
         return shipmentItem;
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.example.supplymaster.service.shipment.cursor;
+
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.error.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Курсоры постраничного чтения отгрузок и товаров отгрузки.
+ * <p>
+ * Курсор кодирует ключ последней прочитанной строки: дату и идентификатор для отгрузок, идентификатор
+ * продукта для товаров отгрузки. Следующая страница читается по условию «ключ больше курсора», поэтому её
+ * стоимость не зависит от номера страницы.
+ */
+public final class ShipmentCursors {
+    private static final String SEPARATOR = "_";
+
+    private ShipmentCursors() {
+    }
+
+    /**
+     * Позиция в списке отгрузок.
+     *
+     * @param shipmentDate дата последней прочитанной отгрузки.
+     * @param shipmentId   идентификатор последней прочитанной отгрузки.
+     */
+    public record ShipmentPosition(LocalDate shipmentDate, UUID shipmentId) {
+    }
+
+    public static String ofShipment(ShipmentHeaderDto shipment) {
+        return encode(shipment.getShipmentDate() + SEPARATOR + shipment.getId());
+    }
+
+    public static String ofShipmentItem(ShipmentItemReportGraphDto shipmentItem) {
+        return encode(shipmentItem.getProductId().toString());
+    }
+
+    /**
+     * Разбирает курсор списка отгрузок.
+     *
+     * @param cursor курсор.
+     * @return позиция в списке отгрузок.
+     * @throws ValidationException если курсор некорректен.
+     */
+    public static ShipmentPosition parseShipment(String cursor) {
+        String[] parts = decode(cursor).split(SEPARATOR, 2);
+        try {
+            return new ShipmentPosition(LocalDate.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    /**
+     * Разбирает курсор списка товаров отгрузки.
+     *
+     * @param cursor курсор.
+     * @return идентификатор последнего прочитанного продукта.
+     * @throws ValidationException если курсор некорректен.
+     */
+    public static UUID parseShipmentItem(String cursor) {
+        try {
+            return UUID.fromString(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    private static ValidationException invalidCursor(String cursor) {
+        return new ValidationException("Некорректный курсор: " + cursor);
+    }
+}
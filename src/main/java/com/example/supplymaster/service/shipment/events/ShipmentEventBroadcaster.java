@@ -0,0 +1,186 @@
+package com.example.supplymaster.service.shipment.events;
+
+import com.example.supplymaster.config.ShipmentEventProperties;
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import com.example.supplymaster.event.ShipmentSavedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Рассылка событий об отгрузках подписчикам.
+ * <p>
+ * У каждого подписчика своя ограниченная очередь неотправленных событий. События одной отгрузки в очереди
+ * объединяются в последнее, а при переполнении очереди удаляются самые старые события, поэтому медленный
+ * клиент не задерживает остальных и не расходует память без ограничений. Отправка выполняется
+ * в виртуальном потоке, который существует только пока в очереди подписчика есть события: подписчик
+ * без событий не занимает потоков.
+ */
+@Slf4j
+@Component
+public class ShipmentEventBroadcaster {
+    private final ShipmentEventProperties properties;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter droppedEvents;
+
+    public ShipmentEventBroadcaster(ShipmentEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.droppedEvents = Counter.builder("shipment.events.dropped")
+                .description("События об отгрузках, удалённые из переполненных очередей подписчиков")
+                .register(meterRegistry);
+        Gauge.builder("shipment.events.subscribers", subscriptions, Set::size)
+                .description("Количество подписчиков на события об отгрузках")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Подписывает клиента на события об отгрузках в формате Server-Sent Events.
+     *
+     * @param supplierId идентификатор поставщика, события которого нужны клиенту, или {@code null} для всех.
+     * @return поток событий.
+     */
+    public SseEmitter subscribe(UUID supplierId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscription subscription = register(supplierId, event -> emitter.send(SseEmitter.event()
+                .name(event.getType().name())
+                .data(event)));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Регистрирует подписчика.
+     *
+     * @param supplierId идентификатор поставщика или {@code null} для всех.
+     * @param sender     отправка события подписчику.
+     * @return подписка.
+     */
+    Subscription register(UUID supplierId, EventSender sender) {
+        Subscription subscription = new Subscription(supplierId, sender);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Рассылает события подписчикам после фиксации транзакции, сохранившей отгрузки.
+     *
+     * @param event событие сохранения отгрузок.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShipmentSaved(ShipmentSavedEvent event) {
+        for (Subscription subscription : subscriptions) {
+            event.shipments().forEach(subscription::offer);
+        }
+    }
+
+    /**
+     * Отправка события подписчику.
+     */
+    @FunctionalInterface
+    interface EventSender {
+        void send(ShipmentEventDto event) throws IOException;
+    }
+
+    /**
+     * Подписка с собственной очередью неотправленных событий.
+     */
+    final class Subscription {
+        private final UUID supplierId;
+        private final EventSender sender;
+        private final Map<UUID, ShipmentEventDto> pending = new LinkedHashMap<>();
+        private boolean draining;
+        private boolean cancelled;
+
+        private Subscription(UUID supplierId, EventSender sender) {
+            this.supplierId = supplierId;
+            this.sender = sender;
+        }
+
+        /**
+         * Добавляет событие в очередь и запускает отправку, если она не выполняется.
+         */
+        void offer(ShipmentEventDto event) {
+            if (supplierId != null && !supplierId.equals(event.getSupplierId())) {
+                return;
+            }
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                ShipmentEventDto previous = pending.remove(event.getShipmentId());
+                pending.put(event.getShipmentId(), previous == null ? event : conflate(previous, event));
+                if (pending.size() > properties.subscriberQueueSize()) {
+                    Iterator<ShipmentEventDto> eldest = pending.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    droppedEvents.increment();
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            Thread.ofVirtual().name("shipment-events").start(this::drain);
+        }
+
+        /**
+         * Отменяет подписку и очищает очередь.
+         */
+        void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pending.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        private void drain() {
+            while (true) {
+                ShipmentEventDto event;
+                synchronized (this) {
+                    Iterator<ShipmentEventDto> eldest = pending.values().iterator();
+                    if (cancelled || !eldest.hasNext()) {
+                        draining = false;
+                        return;
+                    }
+                    event = eldest.next();
+                    eldest.remove();
+                }
+                try {
+                    sender.send(event);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Подписчик на события об отгрузках отключен: {}", e.getMessage());
+                    cancel();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Объединяет неотправленное событие отгрузки с новым: клиент получает последнее состояние,
+         * а созданная и затем изменённая отгрузка остаётся созданной.
+         */
+        private static ShipmentEventDto conflate(ShipmentEventDto previous, ShipmentEventDto event) {
+            if (previous.getType() != ShipmentEventType.CREATED) {
+                return event;
+            }
+            return new ShipmentEventDto(ShipmentEventType.CREATED, event.getShipmentId(), event.getSupplierId(),
+                    event.getShipmentDate());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.supplymaster.service.shipment.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Поддерживаемые форматы выгрузки отчета о поставках.
+ */
+public enum ShipmentReportExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ShipmentReportExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.config.ShipmentReportPartitionProperties;
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.metrics.JdbcStatementCounter;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Загрузка сводки отгрузок по товарам за период с разбиением периода на части.
+ * <p>
+ * Каждая часть периода агрегируется отдельным запросом в собственной транзакции и на собственном
+ * соединении в виртуальном потоке, после чего суммы по паре поставщик/товар складываются в памяти.
+ * Количество одновременных запросов ограничено, чтобы отчет не занимал весь пул соединений; при запуске
+ * проверяется, что ограничение меньше размера пула. Вызывающий не должен держать соединение во время
+ * ожидания частей, иначе параллельные отчеты могут исчерпать пул. Запросы частей учитываются
+ * в {@link JdbcStatementCounter} вызывающего потока, поэтому попадают в метрики его операции.
+ */
+@Component
+public class PartitionedShipmentSummaryLoader {
+    private final ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+    private final ShipmentReportPartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+
+    public PartitionedShipmentSummaryLoader(ShipmentDailyRollupRepository shipmentDailyRollupRepository,
+                                            ShipmentReportPartitionProperties properties,
+                                            PlatformTransactionManager transactionManager,
+                                            DataSource dataSource) {
+        checkPoolSize(properties, dataSource);
+        this.shipmentDailyRollupRepository = shipmentDailyRollupRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.permits = new Semaphore(properties.parallelism());
+    }
+
+    /**
+     * Получает сводную информацию об отгрузках товаров за период.
+     * <p>
+     * Если построение по частям выключено или период укладывается в одну часть, выполняется один запрос
+     * в текущем потоке.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @return список сумм по паре поставщик/товар.
+     */
+    public List<ShipmentItemDto> load(LocalDate startDate, LocalDate endDate) {
+        if (!properties.enabled()) {
+            return shipmentDailyRollupRepository.getProductShipmentSummary(startDate, endDate);
+        }
+        List<DateRange> partitions = split(startDate, endDate);
+        if (partitions.size() < 2) {
+            return shipmentDailyRollupRepository.getProductShipmentSummary(startDate, endDate);
+        }
+
+        Map<ItemKey, ShipmentItemDto> summaries = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PartitionResult>> futures = new ArrayList<>(partitions.size());
+            partitions.forEach(partition -> futures.add(executor.submit(() -> loadPartition(partition))));
+            JdbcStatementCounter.Stats callerStats = JdbcStatementCounter.current();
+            for (Future<PartitionResult> future : futures) {
+                PartitionResult result = await(future, futures);
+                callerStats.add(result.statements(), result.statementNanos());
+                result.items().forEach(item -> summaries.merge(
+                        new ItemKey(item.getSupplierId(), item.getProductId()), item,
+                        PartitionedShipmentSummaryLoader::sum));
+            }
+        }
+        return new ArrayList<>(summaries.values());
+    }
+
+    /**
+     * Разбивает период на части заданной длины, начиная с начальной даты.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @return части периода в порядке возрастания дат.
+     */
+    List<DateRange> split(LocalDate startDate, LocalDate endDate) {
+        List<DateRange> partitions = new ArrayList<>();
+        LocalDate partitionStart = startDate;
+        while (!partitionStart.isAfter(endDate)) {
+            LocalDate next = partitionStart.plus(properties.partitionSize());
+            LocalDate partitionEnd = next.isAfter(endDate) ? endDate : next.minusDays(1);
+            partitions.add(new DateRange(partitionStart, partitionEnd));
+            partitionStart = next;
+        }
+        return partitions;
+    }
+
+    private PartitionResult loadPartition(DateRange partition) throws InterruptedException {
+        permits.acquire();
+        try {
+            JdbcStatementCounter.Stats stats = JdbcStatementCounter.current();
+            long startStatements = stats.statements();
+            long startStatementNanos = stats.nanos();
+            List<ShipmentItemDto> items = transactionTemplate.execute(status ->
+                    shipmentDailyRollupRepository.getProductShipmentSummary(partition.startDate(),
+                            partition.endDate()));
+            return new PartitionResult(items, stats.statements() - startStatements,
+                    stats.nanos() - startStatementNanos);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Ожидает результат части периода. При ошибке остальные части отменяются, а исключение
+     * пробрасывается вызывающему.
+     */
+    private static PartitionResult await(Future<PartitionResult> future, List<Future<PartitionResult>> futures) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Построение отчета о поставках прервано", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Ошибка построения отчета о поставках", e.getCause());
+        }
+    }
+
+    /**
+     * Проверяет, что части отчета не могут занять все соединения пула.
+     */
+    private static void checkPoolSize(ShipmentReportPartitionProperties properties, DataSource dataSource) {
+        int maximumPoolSize;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return;
+            }
+            maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Не удалось определить размер пула соединений", e);
+        }
+        if (properties.parallelism() >= maximumPoolSize) {
+            throw new IllegalStateException("supply-master.shipment-report-partition.parallelism ("
+                    + properties.parallelism() + ") должен быть меньше размера пула соединений ("
+                    + maximumPoolSize + ")");
+        }
+    }
+
+    private static ShipmentItemDto sum(ShipmentItemDto left, ShipmentItemDto right) {
+        return new ShipmentItemDto(left.getSupplierId(), left.getSupplierName(), left.getProductId(),
+                left.getProductName(), left.getTotalWeightKg().add(right.getTotalWeightKg()),
+                left.getTotalPrice().add(right.getTotalPrice()));
+    }
+
+    /**
+     * Часть периода отчета.
+     */
+    record DateRange(LocalDate startDate, LocalDate endDate) {
+    }
+
+    /**
+     * Суммы части периода и выполненные для неё JDBC-запросы.
+     */
+    private record PartitionResult(List<ShipmentItemDto> items, long statements, long statementNanos) {
+    }
+
+    /**
+     * Пара поставщик/товар.
+     */
+    private record ItemKey(UUID supplierId, UUID productId) {
+    }
+}
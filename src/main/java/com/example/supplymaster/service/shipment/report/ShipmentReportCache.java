@@ -0,0 +1,138 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.config.ShipmentReportCacheProperties;
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.event.ShipmentChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Кэш отчетов о поставках по периоду.
+ * <p>
+ * После фиксации транзакции, изменившей отгрузки, удаляются только отчеты, период которых содержит
+ * изменённые даты. Отчет, построение которого пересеклось с таким удалением, не кэшируется, чтобы
+ * в кэш не попали устаревшие данные. Размер кэша ограничен оценкой занимаемой отчетами памяти.
+ */
+@Component
+public class ShipmentReportCache {
+    private static final int REPORT_OVERHEAD_BYTES = 64;
+    private static final int SUPPLIER_OVERHEAD_BYTES = 96;
+    private static final int ITEM_OVERHEAD_BYTES = 160;
+
+    private final ShipmentReportCacheProperties properties;
+    private final Cache<ReportRange, List<ShipmentReportDto>> reports;
+    private final Timer buildTimer;
+    private long epoch;
+
+    public ShipmentReportCache(ShipmentReportCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.reports = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(properties.maxMemory().toBytes())
+                .weigher((ReportRange range, List<ShipmentReportDto> report) -> estimateBytes(report))
+                .recordStats()
+                .build(), "shipment.report");
+        this.buildTimer = Timer.builder("shipment.report.build")
+                .description("Время построения отчета о поставках при отсутствии в кэше")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Возвращает отчет за период из кэша или строит его.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @param loader    построение отчета.
+     * @return отчет о поставках.
+     */
+    public List<ShipmentReportDto> get(LocalDate startDate, LocalDate endDate,
+                                       Supplier<List<ShipmentReportDto>> loader) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+        ReportRange range = new ReportRange(startDate, endDate);
+        List<ShipmentReportDto> cached = reports.getIfPresent(range);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startEpoch = currentEpoch();
+        List<ShipmentReportDto> report = List.copyOf(buildTimer.record(loader));
+        synchronized (this) {
+            if (epoch == startEpoch) {
+                reports.put(range, report);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Возвращает отчет за период, если он уже есть в кэше.
+     *
+     * @param startDate начальная дата периода.
+     * @param endDate   конечная дата периода.
+     * @return отчет о поставках или {@code null}.
+     */
+    public List<ShipmentReportDto> getIfPresent(LocalDate startDate, LocalDate endDate) {
+        if (!properties.enabled()) {
+            return null;
+        }
+        return reports.getIfPresent(new ReportRange(startDate, endDate));
+    }
+
+    /**
+     * Удаляет отчеты, период которых содержит даты изменённых отгрузок.
+     *
+     * @param event событие изменения отгрузок.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShipmentChanged(ShipmentChangedEvent event) {
+        synchronized (this) {
+            epoch++;
+            reports.asMap().keySet().removeIf(range -> event.shipmentDates().stream().anyMatch(range::contains));
+        }
+    }
+
+    /**
+     * Полностью очищает кэш отчетов.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            epoch++;
+            reports.invalidateAll();
+        }
+    }
+
+    private synchronized long currentEpoch() {
+        return epoch;
+    }
+
+    private static int estimateBytes(List<ShipmentReportDto> report) {
+        long bytes = REPORT_OVERHEAD_BYTES;
+        for (ShipmentReportDto supplier : report) {
+            bytes += SUPPLIER_OVERHEAD_BYTES + 2L * supplier.getSupplierName().length();
+            for (ShipmentItemDto item : supplier.getShipments()) {
+                bytes += ITEM_OVERHEAD_BYTES + 2L * item.getProductName().length();
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Период отчета.
+     */
+    private record ReportRange(LocalDate startDate, LocalDate endDate) {
+        boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Построение рейтинга поставщиков или товаров по уже построенному отчету о поставках.
+ * <p>
+ * Используется, когда отчет за период уже находится в памяти, чтобы не обращаться к базе данных.
+ * Первые строки отбираются кучей фиксированного размера.
+ */
+public final class ShipmentReportRanking {
+
+    private ShipmentReportRanking() {
+    }
+
+    /**
+     * Строит рейтинг по отчету о поставках.
+     *
+     * @param report    отчет о поставках.
+     * @param dimension измерение рейтинга.
+     * @param metric    показатель рейтинга.
+     * @param limit     количество строк рейтинга.
+     * @return строки рейтинга в порядке убывания показателя.
+     */
+    public static List<ShipmentTopItemDto> rank(List<ShipmentReportDto> report, ShipmentTopDimension dimension,
+                                                ShipmentTopMetric metric, int limit) {
+        TopN<ShipmentTopItemDto> top = new TopN<>(limit, order(metric));
+        switch (dimension) {
+            case SUPPLIER -> report.forEach(supplier -> top.offer(supplierTotal(supplier)));
+            case PRODUCT -> productTotals(report).values().forEach(top::offer);
+        }
+        return top.toList();
+    }
+
+    /**
+     * Порядок рейтинга: больший показатель выше, при равенстве выше строка с меньшим названием.
+     */
+    private static Comparator<ShipmentTopItemDto> order(ShipmentTopMetric metric) {
+        Function<ShipmentTopItemDto, BigDecimal> value = switch (metric) {
+            case WEIGHT -> ShipmentTopItemDto::getTotalWeightKg;
+            case REVENUE -> ShipmentTopItemDto::getTotalPrice;
+        };
+        return Comparator.comparing(value)
+                .thenComparing(ShipmentTopItemDto::getName, Comparator.reverseOrder())
+                .thenComparing(ShipmentTopItemDto::getId, Comparator.reverseOrder());
+    }
+
+    private static ShipmentTopItemDto supplierTotal(ShipmentReportDto supplier) {
+        BigDecimal weight = BigDecimal.ZERO;
+        BigDecimal price = BigDecimal.ZERO;
+        for (ShipmentItemDto item : supplier.getShipments()) {
+            weight = weight.add(item.getTotalWeightKg());
+            price = price.add(item.getTotalPrice());
+        }
+        return new ShipmentTopItemDto(supplier.getSupplierId(), supplier.getSupplierName(), weight, price);
+    }
+
+    private static Map<UUID, ShipmentTopItemDto> productTotals(List<ShipmentReportDto> report) {
+        Map<UUID, ShipmentTopItemDto> totals = new HashMap<>();
+        report.forEach(supplier -> supplier.getShipments().forEach(item -> totals.merge(item.getProductId(),
+                new ShipmentTopItemDto(item.getProductId(), item.getProductName(), item.getTotalWeightKg(),
+                        item.getTotalPrice()),
+                (left, right) -> new ShipmentTopItemDto(left.getId(), left.getName(),
+                        left.getTotalWeightKg().add(right.getTotalWeightKg()),
+                        left.getTotalPrice().add(right.getTotalPrice())))));
+        return totals;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.supplymaster.service.shipment.report;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Выбор первых N элементов в памяти с помощью кучи фиксированного размера.
+ * <p>
+ * В куче хранится не больше N элементов, а в её вершине — наименьший из отобранных, поэтому расход памяти
+ * зависит только от N, а не от количества перебираемых элементов.
+ *
+ * @param <T> тип элементов.
+ */
+public final class TopN<T> {
+    private final int limit;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param limit количество отбираемых элементов.
+     * @param order порядок рейтинга: первыми идут наибольшие по нему элементы.
+     */
+    public TopN(int limit, Comparator<? super T> order) {
+        this.limit = limit;
+        this.order = order;
+        this.heap = new PriorityQueue<>(limit, order);
+    }
+
+    /**
+     * Добавляет элемент, если он входит в первые N из перебранных.
+     *
+     * @param element элемент.
+     */
+    public void offer(T element) {
+        if (heap.size() < limit) {
+            heap.add(element);
+        } else if (order.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    /**
+     * Возвращает отобранные элементы в порядке убывания.
+     *
+     * @return список не длиннее N.
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+}
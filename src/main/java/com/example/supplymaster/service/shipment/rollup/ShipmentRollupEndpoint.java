@@ -0,0 +1,38 @@
+package com.example.supplymaster.service.shipment.rollup;
+
+import com.example.supplymaster.repository.ShipmentRollupJdbcRepository;
+import com.example.supplymaster.service.shipment.report.ShipmentReportCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Эндпоинт Actuator для полного пересчёта дневных итогов отгрузок.
+ * <p>
+ * Используется после загрузки отгрузок в обход приложения и для восстановления итогов.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "shipmentrollup")
+@RequiredArgsConstructor
+public class ShipmentRollupEndpoint {
+    private final ShipmentRollupJdbcRepository shipmentRollupJdbcRepository;
+    private final ShipmentReportCache shipmentReportCache;
+
+    /**
+     * Пересчитывает дневные итоги по всем отгрузкам и очищает кэш отчетов.
+     *
+     * @return количество строк итогов.
+     */
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        int rows = shipmentRollupJdbcRepository.rebuild();
+        shipmentReportCache.invalidateAll();
+        log.info("Дневные итоги отгрузок пересчитаны, строк: {}", rows);
+        return Map.of("rows", rows);
+    }
+}
@@ -8,6 +8,8 @@ package com.example.supplymaster.util;
  */
 public final class Constants {
     public static final String DATE_TIME_FORMAT = "YYYY-MM-dd HH:mm:ss";
+    public static final String PRICES_NO_OVERLAP_CONSTRAINT = "prices_no_overlap";
+    public static final String PRICE_PERIOD_EXISTS_MESSAGE = "Ошибка: Цена на этот период уже существует!";
 
     private Constants() {
     }
@@ -0,0 +1,38 @@
+package com.example.supplymaster.util;
+
+import java.sql.SQLException;
+
+/**
+ * Утилитный класс для определения нарушенного ограничения базы данных по цепочке исключений.
+ * <p>
+ * Этот класс является утилитным, и его экземпляры не могут быть созданы.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Проверяет, вызвано ли исключение нарушением ограничения с указанным именем.
+     *
+     * @param throwable      исключение.
+     * @param constraintName имя ограничения.
+     * @return {@code true}, если в цепочке причин есть нарушение этого ограничения.
+     */
+    public static boolean isViolated(Throwable throwable, String constraintName) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && constraintName.equals(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && cause.getMessage().contains(constraintName)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
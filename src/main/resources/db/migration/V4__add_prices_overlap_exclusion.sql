@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE prices
+    ADD CONSTRAINT prices_dates_check CHECK (start_date <= end_date);
+
+ALTER TABLE prices
+    ADD CONSTRAINT prices_no_overlap EXCLUDE USING gist (
+        supplier_id WITH =,
+        product_id WITH =,
+        daterange(start_date, end_date, '[]') WITH &&
+        );
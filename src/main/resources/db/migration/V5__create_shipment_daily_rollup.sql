@@ -0,0 +1,17 @@
+CREATE TABLE shipment_daily_rollup
+(
+    day         DATE           NOT NULL,
+    supplier_id uuid           NOT NULL,
+    product_id  uuid           NOT NULL,
+    weight_kg   DECIMAL(19, 2) NOT NULL,
+    total_price DECIMAL(19, 2) NOT NULL,
+    CONSTRAINT shipment_daily_rollup_pk PRIMARY KEY (day, supplier_id, product_id),
+    CONSTRAINT shipment_daily_rollup_supplier_fk FOREIGN KEY (supplier_id) REFERENCES suppliers (id),
+    CONSTRAINT shipment_daily_rollup_product_fk FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+INSERT INTO shipment_daily_rollup (day, supplier_id, product_id, weight_kg, total_price)
+SELECT s.shipment_date, s.supplier_id, si.product_id, SUM(si.weight_kg), SUM(si.total_price)
+FROM shipment_items si
+         JOIN shipments s ON s.id = si.shipment_id
+GROUP BY s.shipment_date, s.supplier_id, si.product_id;
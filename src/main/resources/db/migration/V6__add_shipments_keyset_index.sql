@@ -0,0 +1 @@
+CREATE INDEX shipments_supplier_date_id_idx ON shipments (supplier_id, shipment_date, id);
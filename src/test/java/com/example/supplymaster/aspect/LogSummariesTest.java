@@ -0,0 +1,37 @@
+package com.example.supplymaster.aspect;
+
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogSummariesTest {
+
+    @Test
+    void ofArgs_DescribesSimpleValuesAndCollectionSizes() {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        Object[] args = {id, LocalDate.of(2024, 3, 10), ShipmentReportGranularity.WEEK,
+                List.of(new ShipmentReportDto(), new ShipmentReportDto()), new byte[16], null};
+
+        assertEquals("[00000000-0000-0000-0000-000000000001, 2024-03-10, WEEK, List[size=2], byte[length=16], null]",
+                LogSummaries.ofArgs(args, 200));
+    }
+
+    @Test
+    void of_DescribesObjectByClassName() {
+        assertEquals("ShipmentReportDto", LogSummaries.of(new ShipmentReportDto(), 200));
+    }
+
+    @Test
+    void ofArgs_TruncatesToMaxLength() {
+        String summary = LogSummaries.ofArgs(new Object[]{"a".repeat(100), "b".repeat(100)}, 50);
+
+        assertEquals(50, summary.length());
+        assertEquals("[\"" + "a".repeat(45) + "...", summary);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.supplymaster.config;
+
+import graphql.analysis.FieldComplexityEnvironment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GraphQlConfigTest {
+
+    @Test
+    void fieldComplexity_MultipliesByFirst() {
+        assertEquals(30, GraphQlConfig.fieldComplexity(environment(Map.of("first", 10)), 2));
+    }
+
+    @Test
+    void fieldComplexity_AddsItemsCount() {
+        List<Object> items = Collections.nCopies(10000, new Object());
+
+        assertEquals(10003, GraphQlConfig.fieldComplexity(environment(Map.of("items", items)), 2));
+    }
+
+    private static FieldComplexityEnvironment environment(Map<String, Object> arguments) {
+        FieldComplexityEnvironment environment = mock(FieldComplexityEnvironment.class);
+        when(environment.getArguments()).thenReturn(arguments);
+        return environment;
+    }
+}
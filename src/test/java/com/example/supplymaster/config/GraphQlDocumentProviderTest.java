@@ -0,0 +1,104 @@
+package com.example.supplymaster.config;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphQlDocumentProviderTest {
+
+    private static final String QUERY = "{ getShipmentItemsReports(shipmentId: null) { productId } }";
+
+    private GraphQlDocumentProvider documentProvider;
+    private AtomicInteger parses;
+    private Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate;
+
+    @BeforeEach
+    void setUp() {
+        documentProvider = new GraphQlDocumentProvider(new GraphQlExecutionProperties(10, 10, 10, 100),
+                new SimpleMeterRegistry());
+        parses = new AtomicInteger();
+        parseAndValidate = executionInput -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(Parser.parse(executionInput.getQuery()));
+        };
+    }
+
+    @Test
+    void getDocumentAsync_ParsesSameQueryTextOnce() {
+        PreparsedDocumentEntry first = documentProvider.getDocumentAsync(input(QUERY, Map.of()), parseAndValidate)
+                .join();
+        PreparsedDocumentEntry second = documentProvider.getDocumentAsync(input(QUERY, Map.of()), parseAndValidate)
+                .join();
+
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void getDocumentAsync_ResolvesPersistedQueryByHash() throws NoSuchAlgorithmException {
+        Map<String, Object> extensions = persistedQuery(sha256(QUERY));
+
+        PreparsedDocumentEntry registered = documentProvider.getDocumentAsync(input(QUERY, extensions),
+                parseAndValidate).join();
+        PreparsedDocumentEntry resolved = documentProvider.getDocumentAsync(
+                input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, extensions), parseAndValidate).join();
+
+        assertFalse(resolved.hasErrors());
+        assertSame(registered, resolved);
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void getDocumentAsync_ReturnsError_WhenPersistedQueryUnknown() {
+        PreparsedDocumentEntry entry = documentProvider.getDocumentAsync(
+                input(PersistedQuerySupport.PERSISTED_QUERY_MARKER, persistedQuery("unknown")), parseAndValidate)
+                .join();
+
+        assertTrue(entry.hasErrors());
+        assertEquals(0, parses.get());
+    }
+
+    @Test
+    void getDocumentAsync_DoesNotCacheInvalidDocuments() {
+        Function<ExecutionInput, PreparsedDocumentEntry> failing = executionInput -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("invalid").build());
+        };
+
+        documentProvider.getDocumentAsync(input(QUERY, Map.of()), failing).join();
+        documentProvider.getDocumentAsync(input(QUERY, Map.of()), failing).join();
+
+        assertEquals(2, parses.get());
+    }
+
+    private static ExecutionInput input(String query, Map<String, Object> extensions) {
+        return ExecutionInput.newExecutionInput(query).extensions(extensions).build();
+    }
+
+    private static Map<String, Object> persistedQuery(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+
+    private static String sha256(String value) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
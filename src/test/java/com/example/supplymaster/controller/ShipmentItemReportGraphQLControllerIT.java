@@ -0,0 +1,175 @@
+package com.example.supplymaster.controller;
+
+import com.example.supplymaster.dto.shipment.NewShipmentRequest;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
+import com.example.supplymaster.entity.Price;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Supplier;
+import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentItemJdbcRepository;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
+import com.example.supplymaster.repository.ShipmentRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.shipment.ShipmentBatchService;
+import com.example.supplymaster.util.TestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ShipmentItemReportGraphQLControllerIT {
+
+    private static final String SHIPMENTS_QUERY = """
+            query($supplierId: UUID!, $startDate: Date!, $endDate: Date!) {
+              shipments(supplierId: $supplierId, startDate: $startDate, endDate: $endDate, first: 100) {
+                id
+                shipmentDate
+                supplier { id name }
+                items {
+                  totalPrice
+                  product { id name }
+                }
+              }
+            }
+            """;
+    private static final String SHIPMENTS_CONNECTION_QUERY = """
+            query($supplierId: UUID!, $after: String) {
+              shipmentsConnection(supplierId: $supplierId, first: 2, after: $after) {
+                edges { cursor node { id } }
+                pageInfo { hasNextPage endCursor }
+              }
+            }
+            """;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private ShipmentBatchService shipmentBatchService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private ShipmentItemJdbcRepository shipmentItemJdbcRepository;
+
+    @Autowired
+    private ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+
+    @Autowired
+    private ShipmentRepository shipmentRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    private GraphQlTester graphQlTester;
+
+    @BeforeEach
+    void cleanDb() {
+        shipmentDailyRollupRepository.deleteAll();
+        shipmentRepository.deleteAll();
+        priceRepository.deleteAll();
+        supplierRepository.deleteAll();
+        productRepository.deleteAll();
+        graphQlTester = ExecutionGraphQlServiceTester.create(graphQlService);
+    }
+
+    @Test
+    void shipments_shouldLoadNestedFieldsWithFixedStatementCount() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        Product apple = TestUtil.createTestProduct();
+        Product pear = TestUtil.createTestProduct();
+        createTestPrice(supplier, apple);
+        createTestPrice(supplier, pear);
+
+        List<NewShipmentRequest> requests = IntStream.range(0, 100)
+                .mapToObj(i -> new NewShipmentRequest(LocalDate.now(), List.of(
+                        new ShipmentItemRequest(apple.getId(), BigDecimal.ONE),
+                        new ShipmentItemRequest(pear.getId(), BigDecimal.TEN))))
+                .toList();
+        shipmentBatchService.createShipments(supplier.getId(), requests);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        graphQlTester.document(SHIPMENTS_QUERY)
+                .variable("supplierId", supplier.getId())
+                .variable("startDate", LocalDate.now().toString())
+                .variable("endDate", LocalDate.now().toString())
+                .execute()
+                .path("shipments").entityList(Object.class).hasSize(100)
+                .path("shipments[0].supplier.name").entity(String.class).isEqualTo("Test Supplier")
+                .path("shipments[99].items").entityList(Object.class).hasSize(2)
+                .path("shipments[99].items[0].product.name").entity(String.class).isEqualTo("Test Product");
+
+        // отгрузки, поставщики и продукты; товары отгрузок читаются через JDBC одним запросом
+        assertEquals(3, statistics.getPrepareStatementCount());
+        verify(shipmentItemJdbcRepository).findProjections(anyCollection(),
+                eq(EnumSet.of(ShipmentItemField.PRODUCT_ID, ShipmentItemField.TOTAL_PRICE)));
+    }
+
+    @Test
+    void shipmentsConnection_shouldPageThroughAllShipments() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        Product apple = TestUtil.createTestProduct();
+        createTestPrice(supplier, apple);
+        List<NewShipmentRequest> requests = IntStream.range(0, 3)
+                .mapToObj(i -> new NewShipmentRequest(LocalDate.now(), List.of(
+                        new ShipmentItemRequest(apple.getId(), BigDecimal.ONE))))
+                .toList();
+        shipmentBatchService.createShipments(supplier.getId(), requests);
+
+        String endCursor = graphQlTester.document(SHIPMENTS_CONNECTION_QUERY)
+                .variable("supplierId", supplier.getId())
+                .execute()
+                .path("shipmentsConnection.edges").entityList(Object.class).hasSize(2)
+                .path("shipmentsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("shipmentsConnection.pageInfo.endCursor").entity(String.class).get();
+
+        graphQlTester.document(SHIPMENTS_CONNECTION_QUERY)
+                .variable("supplierId", supplier.getId())
+                .variable("after", endCursor)
+                .execute()
+                .path("shipmentsConnection.edges").entityList(Object.class).hasSize(1)
+                .path("shipmentsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+    }
+
+    private void createTestPrice(Supplier supplier, Product product) {
+        Price price = new Price();
+        price.setSupplier(supplier);
+        price.setProduct(product);
+        price.setPricePerKg(new BigDecimal("100.00"));
+        price.setStartDate(LocalDate.now());
+        price.setEndDate(LocalDate.now().plusMonths(1));
+        priceRepository.save(price);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.supplymaster.metrics;
+
+import com.example.supplymaster.config.FlightRecordingProperties;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(
+            new FlightRecordingProperties("default", Duration.ofMinutes(1), DataSize.ofMegabytes(16)));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    void dump_ReturnsNotFound_WhenRecordingNotStarted() throws Exception {
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.dump().getStatus());
+    }
+
+    @Test
+    void dump_ContainsDomainEvents(@TempDir Path dir) throws Exception {
+        assertEquals("RUNNING", endpoint.start().get("state"));
+        UUID supplierId = UUID.randomUUID();
+        ShipmentWriteJfrEvent writeEvent = ShipmentWriteJfrEvent.start();
+        writeEvent.resolutionStarted();
+        writeEvent.resolutionFinished();
+        writeEvent.commit(ShipmentEventType.CREATED, supplierId, 3);
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        ReportJfrEvent reportEvent = ReportJfrEvent.start();
+        reportEvent.commit("shipments", date, date.plusDays(1), 7);
+
+        Resource dump = endpoint.dump().getBody();
+        Path file = dir.resolve("recording.jfr");
+        try (InputStream inputStream = dump.getInputStream()) {
+            Files.copy(inputStream, file);
+        }
+        assertFalse(dump.exists());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent recordedWrite = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.supplymaster.ShipmentWrite"))
+                .findFirst().orElseThrow();
+        assertEquals("CREATED", recordedWrite.getString("operation"));
+        assertEquals(supplierId.toString(), recordedWrite.getString("supplierId"));
+        assertEquals(3, recordedWrite.getInt("itemCount"));
+        RecordedEvent recordedReport = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.supplymaster.Report"))
+                .findFirst().orElseThrow();
+        assertEquals("2024-03-11", recordedReport.getString("endDate"));
+        assertEquals(7, recordedReport.getInt("rowCount"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.supplymaster.metrics;
+
+import com.example.supplymaster.config.RequestTimingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestTimingFilterTest {
+    private static final String REPORT_PATTERN = "/api/v1/shipments/report";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestTimingFilter filter = new RequestTimingFilter(
+            new RequestTimingProperties("X-Request-Timing", List.of("/api/", "/graphql")), meterRegistry);
+
+    @Test
+    void doFilter_ReturnsServerTimingHeader_WhenDiagnosticHeaderPresent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", REPORT_PATTERN);
+        request.addHeader("X-Request-Timing", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new ReportServlet()));
+
+        String serverTiming = response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER);
+        assertTrue(serverTiming.startsWith("db;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", mapping;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", serialization;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", commit;dur="), serverTiming);
+        assertEquals("[]", response.getContentAsString());
+        assertTrue(meterRegistry.find("http.server.phase").timers().isEmpty());
+    }
+
+    @Test
+    void doFilter_RecordsPhaseMetrics_WhenDiagnosticHeaderMissing() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", REPORT_PATTERN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new ReportServlet()));
+
+        assertNull(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER));
+        assertEquals(1, meterRegistry.get("http.server.phase")
+                .tags("uri", REPORT_PATTERN, "phase", "mapping").timer().count());
+        assertEquals(4, meterRegistry.find("http.server.phase").timers().size());
+    }
+
+    @Test
+    void doFilter_SkipsRequestsOutsideConfiguredPaths() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        request.addHeader("X-Request-Timing", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new ReportServlet()));
+
+        assertNull(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER));
+        assertTrue(meterRegistry.find("http.server.phase").timers().isEmpty());
+    }
+
+    /**
+     * Обработчик, отмечающий этапы так же, как маппер и конвертер JSON.
+     */
+    private static final class ReportServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, REPORT_PATTERN);
+            RequestTimings.start(RequestTimings.Phase.MAPPING);
+            RequestTimings.stop(RequestTimings.Phase.MAPPING);
+            RequestTimings.start(RequestTimings.Phase.SERIALIZATION);
+            response.getWriter().write("[]");
+            RequestTimings.stop(RequestTimings.Phase.SERIALIZATION);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.supplymaster.service.price;
+
+import com.example.supplymaster.config.PriceImportProperties;
+import com.example.supplymaster.dto.price.PriceImportReportDto;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Supplier;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.repository.PriceJdbcRepository;
+import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.imports.PriceImportFormat;
+import com.example.supplymaster.service.price.imports.PriceImportReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceImportServiceImplTest {
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private PriceJdbcRepository priceJdbcRepository;
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceImportServiceImpl priceImportService;
+    private Supplier supplier;
+    private Product product;
+    private LocalDate baseDate;
+
+    @BeforeEach
+    void setUp() {
+        priceImportService = new PriceImportServiceImpl(
+                new PriceImportReader(JsonMapper.builder().findAndAddModules().build()),
+                priceRepository, priceJdbcRepository, supplierRepository, productRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new PriceImportProperties(1000), eventPublisher);
+
+        supplier = new Supplier();
+        supplier.setId(UUID.randomUUID());
+        product = new Product();
+        product.setId(UUID.randomUUID());
+        baseDate = LocalDate.now().plusYears(1).withDayOfMonth(1);
+    }
+
+    private String csvLine(String price, LocalDate startDate, LocalDate endDate) {
+        return String.join(",", supplier.getId().toString(), product.getId().toString(), price,
+                startDate.toString(), endDate.toString());
+    }
+
+    private PriceImportReportDto importCsv(String... lines) {
+        String content = "supplierId,productId,pricePerKg,startDate,endDate\n" + String.join("\n", lines);
+        return priceImportService.importPrices(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), PriceImportFormat.CSV);
+    }
+
+    @Test
+    void importPrices_RejectsOverlapsInsideBatchAndWithExistingPrices() {
+        when(supplierRepository.findAllById(any())).thenReturn(List.of(supplier));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(priceRepository.findPeriodsForSuppliersAndProducts(any(), any())).thenReturn(List.of(
+                new PricePeriodDto(UUID.randomUUID(), supplier.getId(), product.getId(), new BigDecimal("10.00"),
+                        baseDate.plusMonths(3), baseDate.plusMonths(4))));
+
+        PriceImportReportDto report = importCsv(
+                csvLine("11.00", baseDate, baseDate.plusDays(20)),
+                csvLine("12.00", baseDate.plusDays(10), baseDate.plusDays(40)),
+                csvLine("13.00", baseDate.plusMonths(2), baseDate.plusMonths(3)),
+                csvLine("14.00", baseDate.plusMonths(5), baseDate.plusMonths(6)));
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(List.of(3L, 4L), report.getRejectedRows().stream()
+                .map(row -> row.getLineNumber()).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PricePeriodDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(priceJdbcRepository).batchInsert(captor.capture(), eq(1000));
+        assertEquals(List.of(new BigDecimal("11.00"), new BigDecimal("14.00")), captor.getValue().stream()
+                .map(PricePeriodDto::getPricePerKg).sorted().toList());
+        verify(eventPublisher).publishEvent(any(PriceChangedEvent.class));
+    }
+
+    @Test
+    void importPrices_RejectsInvalidRowsWithoutQueryingPrices() {
+        PriceImportReportDto report = importCsv(
+                "not,a,valid,row",
+                csvLine("-1.00", baseDate, baseDate.plusDays(1)),
+                csvLine("5.00", baseDate.plusDays(5), baseDate),
+                csvLine("25.505", baseDate, baseDate.plusDays(1)));
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(0, report.getImportedRows());
+        assertEquals(4, report.getRejectedRows().size());
+        verify(priceRepository, never()).findPeriodsForSuppliersAndProducts(any(), any());
+        verify(priceJdbcRepository, never()).batchInsert(any(), anyInt());
+    }
+
+    @Test
+    void importPrices_RejectsUnknownProduct_FromNdjson() {
+        when(supplierRepository.findAllById(any())).thenReturn(List.of(supplier));
+        when(productRepository.findAllById(any())).thenReturn(List.of());
+        String content = String.format("{\"supplierId\":\"%s\",\"productId\":\"%s\",\"pricePerKg\":10.5,"
+                        + "\"startDate\":\"%s\",\"endDate\":\"%s\"}\n",
+                supplier.getId(), product.getId(), baseDate, baseDate.plusDays(10));
+
+        PriceImportReportDto report = priceImportService.importPrices(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), PriceImportFormat.NDJSON);
+
+        assertEquals(1, report.getTotalRows());
+        assertEquals(0, report.getImportedRows());
+        assertTrue(report.getRejectedRows().getFirst().getReason().contains(product.getId().toString()));
+    }
+
+    @Test
+    void importPrices_RejectsNullRow_FromNdjson() {
+        PriceImportReportDto report = priceImportService.importPrices(
+                new ByteArrayInputStream("null\n".getBytes(StandardCharsets.UTF_8)), PriceImportFormat.NDJSON);
+
+        assertEquals(1, report.getTotalRows());
+        assertEquals(0, report.getImportedRows());
+        assertEquals(1L, report.getRejectedRows().getFirst().getLineNumber());
+        verify(priceJdbcRepository, never()).batchInsert(any(), anyInt());
+    }
+}
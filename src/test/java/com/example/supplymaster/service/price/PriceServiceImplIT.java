@@ -22,6 +22,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
+import static com.example.supplymaster.util.QueryCountAssertions.assertMaxSelects;
+import static com.example.supplymaster.util.QueryCountAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -67,7 +69,8 @@ class PriceServiceImplIT {
         priceDto.setStartDate(LocalDate.of(2024, 3, 1));
         priceDto.setEndDate(LocalDate.of(2024, 4, 1));
 
-        UUID priceId = priceService.createPriceForProduct(priceDto);
+        // цена записывается одним INSERT без предварительной проверки
+        UUID priceId = assertMaxStatements(1, () -> priceService.createPriceForProduct(priceDto));
         assertNotNull(priceId);
 
         Price savedPrice = priceRepository.findById(priceId).orElse(null);
@@ -122,7 +125,7 @@ class PriceServiceImplIT {
         priceDto.setId(price.getId());
         priceDto.setPricePerKg(new BigDecimal("120.75"));
 
-        UUID updatedPriceId = priceService.updatePriceForProduct(priceDto);
+        UUID updatedPriceId = assertMaxSelects(1, () -> priceService.updatePriceForProduct(priceDto));
         assertNotNull(updatedPriceId);
 
         Price updatedPrice = priceRepository.findById(updatedPriceId).orElse(null);
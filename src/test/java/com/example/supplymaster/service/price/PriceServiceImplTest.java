@@ -2,25 +2,42 @@ package com.example.supplymaster.service.price;
 
 import com.example.supplymaster.dto.mappers.PriceMapper;
 import com.example.supplymaster.dto.price.PriceDto;
+import com.example.supplymaster.dto.price.PriceMatrixDto;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
 import com.example.supplymaster.dto.product.ProductDto;
 import com.example.supplymaster.dto.supplier.SupplierDto;
 import com.example.supplymaster.entity.Price;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Supplier;
 import com.example.supplymaster.error.exception.EntityNotFoundException;
 import com.example.supplymaster.error.exception.PriceConflictException;
+import com.example.supplymaster.event.PriceChangedEvent;
 import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.price.matrix.PriceMatrixCache;
+import com.example.supplymaster.service.price.matrix.PriceMatrixSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
@@ -37,6 +54,15 @@ class PriceServiceImplTest {
     @Mock
     private PriceMapper priceMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PriceResolver priceResolver;
+
+    @Mock
+    private PriceMatrixCache priceMatrixCache;
+
     @InjectMocks
     private PriceServiceImpl priceService;
 
@@ -60,27 +86,47 @@ class PriceServiceImplTest {
         price = new Price();
         price.setId(priceDto.getId());
         price.setPricePerKg(priceDto.getPricePerKg());
+
+        Supplier supplier = new Supplier();
+        supplier.setId(supplierDto.getId());
+        price.setSupplier(supplier);
+
+        Product product = new Product();
+        product.setId(productDto.getId());
+        price.setProduct(product);
     }
 
     @Test
     void createPriceForProduct_Success() {
-        when(priceRepository.checkIsNoIntersectionTime(any(), any(), any(), any())).thenReturn(true);
         when(priceMapper.toEntity(any())).thenReturn(price);
-        when(priceRepository.save(any())).thenReturn(price);
+        when(priceRepository.saveAndFlush(any())).thenReturn(price);
 
         UUID result = priceService.createPriceForProduct(priceDto);
 
         assertNotNull(result);
         assertEquals(price.getId(), result);
-        verify(priceRepository, times(1)).save(any());
+        verify(priceRepository, times(1)).saveAndFlush(any());
+        verify(eventPublisher, times(1)).publishEvent(any(PriceChangedEvent.class));
     }
 
     @Test
     void createPriceForProduct_ThrowsPriceConflictException() {
-        when(priceRepository.checkIsNoIntersectionTime(any(), any(), any(), any())).thenReturn(false);
+        when(priceMapper.toEntity(any())).thenReturn(price);
+        when(priceRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("overlap",
+                new SQLException("conflicting key value violates exclusion constraint \"prices_no_overlap\"",
+                        "23P01")));
 
         assertThrows(PriceConflictException.class, () -> priceService.createPriceForProduct(priceDto));
-        verify(priceRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createPriceForProduct_RethrowsOtherIntegrityViolations() {
+        when(priceMapper.toEntity(any())).thenReturn(price);
+        when(priceRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("fk",
+                new SQLException("violates foreign key constraint \"prices_product_fk\"", "23503")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> priceService.createPriceForProduct(priceDto));
     }
 
     @Test
@@ -100,4 +146,41 @@ class PriceServiceImplTest {
 
         assertThrows(EntityNotFoundException.class, () -> priceService.updatePriceForProduct(priceDto));
     }
-}
\ No newline at end of file
+
+    @Test
+    void quotePrices_ReturnsColumnsInRequestOrder() {
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        List<PriceQuoteItemRequest> items = List.of(
+                new PriceQuoteItemRequest(priceDto.getSupplier().getId(), priceDto.getProduct().getId(), date),
+                new PriceQuoteItemRequest(priceDto.getSupplier().getId(), UUID.randomUUID(), date));
+        PricePeriodDto period = new PricePeriodDto(price.getId(), priceDto.getSupplier().getId(),
+                priceDto.getProduct().getId(), price.getPricePerKg(), date, date);
+        when(priceResolver.resolvePeriods(items)).thenReturn(Arrays.asList(period, null));
+
+        PriceQuoteDto result = priceService.quotePrices(items);
+
+        assertEquals(Arrays.asList(price.getId(), null), result.getPriceIds());
+        assertEquals(Arrays.asList(price.getPricePerKg(), null), result.getPricesPerKg());
+    }
+
+    @Test
+    void getPriceMatrix_ReturnsRowsBySupplier() {
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        UUID supplierId = priceDto.getSupplier().getId();
+        UUID firstProductId = new UUID(0, 1);
+        UUID secondProductId = new UUID(0, 2);
+        PricePeriodDto period = new PricePeriodDto(price.getId(), supplierId, secondProductId,
+                new BigDecimal("100.50"), date, date);
+        PricePeriodDto other = new PricePeriodDto(UUID.randomUUID(), UUID.randomUUID(), firstProductId,
+                new BigDecimal("10.00"), date, date);
+        when(priceMatrixCache.get(date)).thenReturn(PriceMatrixSnapshot.build(date, List.of(period, other)));
+
+        PriceMatrixDto result = priceService.getPriceMatrix(date);
+
+        assertEquals(List.of(firstProductId, secondProductId), result.getProductIds());
+        int row = result.getSupplierIds().indexOf(supplierId);
+        assertEquals(Arrays.asList(null, new BigDecimal("100.50")), result.getPricesPerKg().get(row));
+        assertEquals(Arrays.asList(new BigDecimal("10.00"), null), result.getPricesPerKg().get(1 - row));
+        assertSame(result, priceService.getPriceMatrix(date));
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.supplymaster.service.price.index;
+
+import com.example.supplymaster.config.PriceIndexProperties;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
+import com.example.supplymaster.event.PriceChangedEvent;
+import com.example.supplymaster.repository.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceResolverTest {
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UUID supplierId;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        supplierId = UUID.randomUUID();
+        productId = UUID.randomUUID();
+    }
+
+    private PricePeriodDto period(String price, LocalDate startDate, LocalDate endDate) {
+        return new PricePeriodDto(UUID.randomUUID(), supplierId, productId, new BigDecimal(price), startDate, endDate);
+    }
+
+    private PriceResolver resolver(boolean enabled) {
+        return new PriceResolver(priceRepository, new PriceIndexProperties(enabled), meterRegistry);
+    }
+
+    @Test
+    void resolvePrices_ReturnsPriceFromIndex() {
+        when(priceRepository.findAllPeriods()).thenReturn(List.of(
+                period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                period("20.00", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)),
+                period("30.00", LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30))));
+        PriceResolver resolver = resolver(true);
+        resolver.warmUp();
+
+        Map<UUID, BigDecimal> result = resolver.resolvePrices(supplierId, Set.of(productId),
+                LocalDate.of(2024, 2, 29));
+
+        assertEquals(new BigDecimal("20.00"), result.get(productId));
+        assertEquals(1.0, meterRegistry.get("price.index.lookups").tag("result", "hit").counter().count());
+        verify(priceRepository, never()).findPriceForSupplierProducts(any(), any(), any());
+    }
+
+    @Test
+    void resolvePrices_FallsBackToRepository_WhenDateBetweenPeriods() {
+        when(priceRepository.findAllPeriods()).thenReturn(List.of(
+                period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                period("30.00", LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30))));
+        PriceResolver resolver = resolver(true);
+        resolver.warmUp();
+
+        Map<UUID, BigDecimal> result = resolver.resolvePrices(supplierId, Set.of(productId),
+                LocalDate.of(2024, 3, 15));
+
+        assertTrue(result.isEmpty());
+        assertEquals(1.0, meterRegistry.get("price.index.lookups").tag("result", "miss").counter().count());
+        verify(priceRepository).findPriceForSupplierProducts(eq(supplierId), eq(Set.of(productId)), any());
+    }
+
+    @Test
+    void onPriceChanged_ReplacesPeriodInIndex() {
+        PricePeriodDto existing = period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        when(priceRepository.findAllPeriods()).thenReturn(List.of(existing));
+        PriceResolver resolver = resolver(true);
+        resolver.warmUp();
+
+        PricePeriodDto updated = new PricePeriodDto(existing.getId(), supplierId, productId,
+                new BigDecimal("15.00"), existing.getStartDate(), existing.getEndDate());
+        resolver.onPriceChanged(new PriceChangedEvent(List.of(updated)));
+
+        Map<UUID, BigDecimal> result = resolver.resolvePrices(supplierId, Set.of(productId),
+                LocalDate.of(2024, 1, 10));
+
+        assertEquals(new BigDecimal("15.00"), result.get(productId));
+        assertEquals(1, resolver.currentIndex().size());
+    }
+
+    @Test
+    void resolvePrices_UsesRepository_WhenIndexDisabled() {
+        PriceResolver resolver = resolver(false);
+        resolver.warmUp();
+        when(priceRepository.findPriceForSupplierProducts(eq(supplierId), any(), any())).thenReturn(List.of(
+                period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))));
+
+        Map<UUID, BigDecimal> result = resolver.resolvePrices(supplierId, Set.of(productId),
+                LocalDate.of(2024, 1, 10));
+
+        assertEquals(new BigDecimal("10.00"), result.get(productId));
+        verify(priceRepository, never()).findAllPeriods();
+    }
+
+    @Test
+    void resolvePeriods_QueriesRepositoryOnceForAllMisses_WithoutStoringInIndex() {
+        PricePeriodDto indexed = period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        when(priceRepository.findAllPeriods()).thenReturn(List.of(indexed));
+        PriceResolver resolver = resolver(true);
+        resolver.warmUp();
+
+        UUID otherProductId = UUID.randomUUID();
+        PricePeriodDto stored = new PricePeriodDto(UUID.randomUUID(), supplierId, otherProductId,
+                new BigDecimal("40.00"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        when(priceRepository.findPeriodsForSuppliersAndProductsBetween(any(), any(),
+                eq(LocalDate.of(2024, 2, 1)), eq(LocalDate.of(2024, 6, 1)))).thenReturn(List.of(stored));
+
+        List<PricePeriodDto> result = resolver.resolvePeriods(List.of(
+                new PriceQuoteItemRequest(supplierId, productId, LocalDate.of(2024, 1, 15)),
+                new PriceQuoteItemRequest(supplierId, productId, LocalDate.of(2024, 2, 1)),
+                new PriceQuoteItemRequest(supplierId, otherProductId, LocalDate.of(2024, 6, 1))));
+
+        assertEquals(indexed, result.get(0));
+        assertNull(result.get(1));
+        assertEquals(stored, result.get(2));
+        assertNull(resolver.currentIndex().find(supplierId, otherProductId, LocalDate.of(2024, 3, 1)));
+    }
+
+    @Test
+    void reload_KeepsPricesChangedDuringReload() {
+        PricePeriodDto existing = period("10.00", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        PricePeriodDto updated = new PricePeriodDto(existing.getId(), supplierId, productId,
+                new BigDecimal("15.00"), existing.getStartDate(), existing.getEndDate());
+        PriceResolver resolver = resolver(true);
+        when(priceRepository.findAllPeriods()).thenAnswer(invocation -> {
+            resolver.onPriceChanged(new PriceChangedEvent(List.of(updated)));
+            return List.of(existing);
+        });
+
+        resolver.reload();
+
+        assertEquals(new BigDecimal("15.00"), resolver.currentIndex()
+                .findPricePerKg(supplierId, productId, LocalDate.of(2024, 1, 10)));
+    }
+}
\ No newline at end of file
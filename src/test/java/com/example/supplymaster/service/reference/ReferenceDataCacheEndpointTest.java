@@ -0,0 +1,49 @@
+package com.example.supplymaster.service.reference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheEndpointTest {
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @InjectMocks
+    private ReferenceDataCacheEndpoint endpoint;
+
+    @Test
+    void invalidateEntry_InvalidatesSupplier() {
+        UUID supplierId = UUID.randomUUID();
+
+        endpoint.invalidateEntry("suppliers", supplierId);
+
+        verify(referenceDataCache).invalidateSupplier(supplierId);
+    }
+
+    @Test
+    void invalidateEntry_InvalidatesProduct() {
+        UUID productId = UUID.randomUUID();
+
+        endpoint.invalidateEntry("products", productId);
+
+        verify(referenceDataCache).invalidateProduct(productId);
+    }
+
+    @Test
+    void invalidateEntry_Throws_WhenDictionaryIsUnknown() {
+        assertThrows(InvalidEndpointRequestException.class,
+                () -> endpoint.invalidateEntry("prices", UUID.randomUUID()));
+        verifyNoInteractions(referenceDataCache);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.supplymaster.service.reference;
+
+import com.example.supplymaster.config.ReferenceDataCacheProperties;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        referenceDataCache = new ReferenceDataCache(supplierRepository, productRepository,
+                new ReferenceDataCacheProperties(100, Duration.ofMinutes(10)), meterRegistry);
+    }
+
+    @Test
+    void findExistingProductIds_QueriesOnlyMissingIds() {
+        UUID cachedId = UUID.randomUUID();
+        UUID newId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        when(productRepository.findExistingIds(Set.of(cachedId))).thenReturn(List.of(cachedId));
+        when(productRepository.findExistingIds(Set.of(newId, unknownId))).thenReturn(List.of(newId));
+
+        referenceDataCache.findExistingProductIds(Set.of(cachedId));
+        Set<UUID> result = referenceDataCache.findExistingProductIds(Set.of(cachedId, newId, unknownId));
+
+        assertEquals(Set.of(cachedId, newId), result);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "reference.products")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void supplierExists_CachesOnlyExistingSuppliers() {
+        UUID supplierId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        when(supplierRepository.existsById(supplierId)).thenReturn(true);
+        when(supplierRepository.existsById(unknownId)).thenReturn(false);
+
+        assertTrue(referenceDataCache.supplierExists(supplierId));
+        assertTrue(referenceDataCache.supplierExists(supplierId));
+        assertFalse(referenceDataCache.supplierExists(unknownId));
+        assertFalse(referenceDataCache.supplierExists(unknownId));
+
+        verify(supplierRepository, times(1)).existsById(supplierId);
+        verify(supplierRepository, times(2)).existsById(unknownId);
+    }
+
+    @Test
+    void invalidateAll_ForcesReload() {
+        UUID supplierId = UUID.randomUUID();
+        when(supplierRepository.existsById(supplierId)).thenReturn(true);
+
+        referenceDataCache.supplierExists(supplierId);
+        referenceDataCache.invalidateAll();
+        referenceDataCache.supplierExists(supplierId);
+
+        verify(supplierRepository, times(2)).existsById(supplierId);
+    }
+}
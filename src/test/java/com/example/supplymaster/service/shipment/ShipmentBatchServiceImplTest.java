@@ -0,0 +1,159 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.config.ShipmentBatchProperties;
+import com.example.supplymaster.dto.price.PricePeriodDto;
+import com.example.supplymaster.dto.price.PriceQuoteItemRequest;
+import com.example.supplymaster.dto.shipment.NewShipmentRequest;
+import com.example.supplymaster.dto.shipment.ShipmentBatchResultDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
+import com.example.supplymaster.entity.Product;
+import com.example.supplymaster.entity.Shipment;
+import com.example.supplymaster.entity.ShipmentItem;
+import com.example.supplymaster.entity.Supplier;
+import com.example.supplymaster.error.exception.EntityNotFoundException;
+import com.example.supplymaster.event.ShipmentChangedEvent;
+import com.example.supplymaster.event.ShipmentSavedEvent;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentRollupJdbcRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.reference.ReferenceDataCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentBatchServiceImplTest {
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PriceResolver priceResolver;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private ShipmentRollupJdbcRepository shipmentRollupJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ShipmentBatchServiceImpl shipmentBatchService;
+
+    private UUID supplierId;
+    private Supplier supplier;
+    private Product product;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        shipmentBatchService = new ShipmentBatchServiceImpl(supplierRepository, productRepository, priceResolver,
+                entityManager, new ShipmentBatchProperties(2), referenceDataCache,
+                shipmentRollupJdbcRepository, eventPublisher);
+
+        supplierId = UUID.randomUUID();
+        supplier = new Supplier();
+        supplier.setId(supplierId);
+
+        product = new Product();
+        product.setId(UUID.randomUUID());
+        date = LocalDate.of(2024, 3, 10);
+    }
+
+    @Test
+    void createShipments_ReportsResultPerShipment() {
+        UUID unknownProductId = UUID.randomUUID();
+        LocalDate dateWithoutPrice = date.plusDays(1);
+        List<NewShipmentRequest> requests = List.of(
+                new NewShipmentRequest(date, List.of(
+                        new ShipmentItemRequest(product.getId(), new BigDecimal("10")),
+                        new ShipmentItemRequest(product.getId(), new BigDecimal("5")))),
+                new NewShipmentRequest(date, List.of(new ShipmentItemRequest(unknownProductId, BigDecimal.ONE))),
+                new NewShipmentRequest(dateWithoutPrice, List.of(
+                        new ShipmentItemRequest(product.getId(), BigDecimal.ONE))),
+                new NewShipmentRequest(date, List.of(new ShipmentItemRequest(product.getId(), BigDecimal.ONE))));
+        when(referenceDataCache.supplierExists(supplierId)).thenReturn(true);
+        when(supplierRepository.getReferenceById(supplierId)).thenReturn(supplier);
+        when(referenceDataCache.findExistingProductIds(Set.of(product.getId(), unknownProductId)))
+                .thenReturn(Set.of(product.getId()));
+        when(productRepository.getReferenceById(product.getId())).thenReturn(product);
+        PricePeriodDto period = new PricePeriodDto(UUID.randomUUID(), supplierId, product.getId(),
+                new BigDecimal("2.00"), date, date);
+        when(priceResolver.resolvePeriods(List.of(
+                new PriceQuoteItemRequest(supplierId, product.getId(), date),
+                new PriceQuoteItemRequest(supplierId, product.getId(), dateWithoutPrice))))
+                .thenReturn(Arrays.asList(period, null));
+        doAnswer(invocation -> {
+            invocation.<Shipment>getArgument(0).setId(UUID.randomUUID());
+            return null;
+        }).when(entityManager).persist(any(Shipment.class));
+
+        List<ShipmentBatchResultDto> results = shipmentBatchService.createShipments(supplierId, requests);
+
+        assertEquals(4, results.size());
+        assertNotNull(results.get(0).getShipmentId());
+        assertNull(results.get(1).getShipmentId());
+        assertEquals("Продукт не найден с ID " + unknownProductId, results.get(1).getError());
+        assertEquals("Цена не найдена для продукта с ID " + product.getId(), results.get(2).getError());
+        assertNotNull(results.get(3).getShipmentId());
+
+        ArgumentCaptor<Shipment> captor = ArgumentCaptor.forClass(Shipment.class);
+        verify(entityManager, times(2)).persist(captor.capture());
+        ShipmentItem merged = captor.getAllValues().get(0).getShipmentItems().iterator().next();
+        assertEquals(new BigDecimal("15"), merged.getWeightKg());
+        assertEquals(new BigDecimal("30.00"), merged.getTotalPrice());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+        verify(shipmentRollupJdbcRepository).addShipments(List.of(results.get(0).getShipmentId(),
+                results.get(3).getShipmentId()));
+        verify(eventPublisher).publishEvent(new ShipmentChangedEvent(Set.of(date)));
+        verify(eventPublisher).publishEvent(new ShipmentSavedEvent(List.of(
+                new ShipmentEventDto(ShipmentEventType.CREATED, results.get(0).getShipmentId(), supplierId, date),
+                new ShipmentEventDto(ShipmentEventType.CREATED, results.get(3).getShipmentId(), supplierId, date))));
+    }
+
+    @Test
+    void createShipments_ThrowsEntityNotFoundException_WhenSupplierMissing() {
+        UUID unknownSupplierId = UUID.randomUUID();
+        when(referenceDataCache.supplierExists(unknownSupplierId)).thenReturn(false);
+        List<NewShipmentRequest> requests = List.of(
+                new NewShipmentRequest(date, List.of(new ShipmentItemRequest(product.getId(), BigDecimal.ONE))));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> shipmentBatchService.createShipments(unknownSupplierId, requests));
+        verify(entityManager, never()).persist(any());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
+import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
+import com.example.supplymaster.error.exception.ValidationException;
+import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentItemJdbcRepository;
+import com.example.supplymaster.repository.ShipmentRepository;
+import com.example.supplymaster.repository.SupplierRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentGraphServiceImplTest {
+
+    @Mock
+    private ShipmentRepository shipmentRepository;
+
+    @Mock
+    private ShipmentItemJdbcRepository shipmentItemJdbcRepository;
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ShipmentMapper shipmentMapper;
+
+    @InjectMocks
+    private ShipmentGraphServiceImpl shipmentGraphService;
+
+    @Test
+    void getShipmentsByIds_ReturnsFoundShipmentsInRequestOrder() {
+        UUID firstId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        ShipmentHeaderDto first = new ShipmentHeaderDto(firstId, UUID.randomUUID(), LocalDate.now());
+        ShipmentHeaderDto second = new ShipmentHeaderDto(secondId, UUID.randomUUID(), LocalDate.now());
+        List<UUID> ids = List.of(secondId, missingId, firstId);
+        when(shipmentRepository.findHeadersByIdIn(ids)).thenReturn(List.of(first, second));
+
+        assertEquals(List.of(second, first), shipmentGraphService.getShipmentsByIds(ids));
+    }
+
+    @Test
+    void getShipmentItems_ReadsOnlyRequestedColumns() {
+        UUID shipmentId = UUID.randomUUID();
+        Set<ShipmentItemField> fields = EnumSet.of(ShipmentItemField.TOTAL_PRICE);
+        Map<UUID, List<ShipmentItemReportGraphDto>> items = Map.of(shipmentId,
+                List.of(new ShipmentItemReportGraphDto(null, null, null, 2f)));
+        when(shipmentItemJdbcRepository.findProjections(List.of(shipmentId), fields)).thenReturn(items);
+
+        assertEquals(items, shipmentGraphService.getShipmentItems(List.of(shipmentId), fields));
+    }
+
+    @Test
+    void getShipments_ThrowsValidationException_WhenLimitTooLarge() {
+        assertThrows(ValidationException.class, () -> shipmentGraphService.getShipments(UUID.randomUUID(),
+                LocalDate.now(), LocalDate.now(), 501));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.supplymaster.service.shipment;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
+import com.example.supplymaster.service.shipment.export.ShipmentReportExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentReportExportServiceImplTest {
+
+    @Mock
+    private ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+
+    private ShipmentReportExportServiceImpl shipmentReportExportService;
+
+    private final LocalDate startDate = LocalDate.of(2024, 3, 1);
+    private final LocalDate endDate = LocalDate.of(2024, 3, 31);
+    private final UUID firstSupplierId = new UUID(0, 1);
+    private final UUID secondSupplierId = new UUID(0, 2);
+    private final UUID productId = new UUID(1, 1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        shipmentReportExportService = new ShipmentReportExportServiceImpl(shipmentDailyRollupRepository,
+                new ObjectMapper());
+        Stream<ShipmentItemDto> rows = Stream.of(
+                new ShipmentItemDto(firstSupplierId, "Сады, Кубани", productId, "Груши",
+                        new BigDecimal("10.00"), new BigDecimal("100.00")),
+                new ShipmentItemDto(firstSupplierId, "Сады, Кубани", new UUID(1, 2), "Яблоки",
+                        new BigDecimal("5.00"), new BigDecimal("50.00")),
+                new ShipmentItemDto(secondSupplierId, "Ферма", productId, "Груши",
+                        new BigDecimal("1.00"), new BigDecimal("10.00")));
+        when(shipmentDailyRollupRepository.streamProductShipmentSummary(startDate, endDate))
+                .thenReturn(rows.onClose(() -> closed.set(true)));
+    }
+
+    @Test
+    void exportShipmentsReport_WritesCsvRows() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        shipmentReportExportService.exportShipmentsReport(startDate, endDate, ShipmentReportExportFormat.CSV,
+                outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("supplierId,supplierName,productId,productName,totalWeightKg,totalPrice", lines[0]);
+        assertEquals(firstSupplierId + ",\"Сады, Кубани\"," + productId + ",Груши,10.00,100.00", lines[1]);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportShipmentsReport_GroupsNdjsonLinesBySupplier() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        shipmentReportExportService.exportShipmentsReport(startDate, endDate, ShipmentReportExportFormat.NDJSON,
+                outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(2, objectMapper.readTree(lines[0]).get("shipments").size());
+        assertEquals(secondSupplierId.toString(), objectMapper.readTree(lines[1]).get("supplierId").asText());
+        assertTrue(closed.get());
+    }
+}
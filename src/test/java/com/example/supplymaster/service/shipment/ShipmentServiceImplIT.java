@@ -1,8 +1,11 @@
 package com.example.supplymaster.service.shipment;
 
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
 import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
 import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportGranularity;
+import com.example.supplymaster.dto.shipment.ShipmentSeriesDto;
 import com.example.supplymaster.entity.Price;
 import com.example.supplymaster.entity.Product;
 import com.example.supplymaster.entity.Shipment;
@@ -12,6 +15,7 @@ import com.example.supplymaster.error.exception.AccessDeniedException;
 import com.example.supplymaster.error.exception.EntityNotFoundException;
 import com.example.supplymaster.repository.PriceRepository;
 import com.example.supplymaster.repository.ProductRepository;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
 import com.example.supplymaster.repository.ShipmentRepository;
 import com.example.supplymaster.repository.SupplierRepository;
 import com.example.supplymaster.util.TestUtil;
@@ -24,9 +28,12 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
+import static com.example.supplymaster.util.QueryCountAssertions.assertMaxSelects;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -51,8 +58,12 @@ class ShipmentServiceImplIT {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+
     @BeforeEach
     void cleanDb() {
+        shipmentDailyRollupRepository.deleteAll();
         shipmentRepository.deleteAll();
         supplierRepository.deleteAll();
         productRepository.deleteAll();
@@ -60,11 +71,15 @@ class ShipmentServiceImplIT {
     }
 
     private void createTestPrice(Supplier supplier, Product product) {
+        createTestPrice(supplier, product, LocalDate.now());
+    }
+
+    private void createTestPrice(Supplier supplier, Product product, LocalDate startDate) {
         Price price = new Price();
         price.setSupplier(supplier);
         price.setProduct(product);
         price.setPricePerKg(new BigDecimal("100.00"));
-        price.setStartDate(LocalDate.now());
+        price.setStartDate(startDate);
         price.setEndDate(LocalDate.now().plusMonths(1));
         priceRepository.save(price);
     }
@@ -80,7 +95,9 @@ class ShipmentServiceImplIT {
         itemRequest.setProductId(product.getId());
         itemRequest.setWeightKg(new BigDecimal("10"));
 
-        UUID shipmentId = shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
+        // поставщик, продукты и цены
+        UUID shipmentId = assertMaxSelects(3, () -> shipmentService.createShipment(supplier.getId(),
+                LocalDate.now(), List.of(itemRequest)));
 
         assertNotNull(shipmentId);
 
@@ -107,7 +124,9 @@ class ShipmentServiceImplIT {
         updatedItemRequest.setProductId(product.getId());
         updatedItemRequest.setWeightKg(new BigDecimal("20"));
 
-        UUID updatedShipmentId = shipmentService.updateShipment(shipmentId, supplier.getId(), LocalDate.now(), List.of(updatedItemRequest));
+        // блокировка, отгрузка с товарами, продукты и цены
+        UUID updatedShipmentId = assertMaxSelects(4, () -> shipmentService.updateShipment(shipmentId,
+                supplier.getId(), LocalDate.now(), List.of(updatedItemRequest)));
 
         assertNotNull(updatedShipmentId);
 
@@ -117,6 +136,33 @@ class ShipmentServiceImplIT {
         assertEquals(new BigDecimal("30.00"), expectedShipmentItems.getFirst().getWeightKg());
     }
 
+    @Test
+    void addShipmentWeights_shouldAddWeightAndInsertNewItems() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        Product product = TestUtil.createTestProduct();
+        Product newProduct = TestUtil.createTestProduct();
+
+        createTestPrice(supplier, product);
+        createTestPrice(supplier, newProduct);
+
+        ShipmentItemRequest itemRequest = new ShipmentItemRequest(product.getId(), new BigDecimal("10"));
+
+        UUID shipmentId = shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
+
+        shipmentService.addShipmentWeights(shipmentId, supplier.getId(), null, List.of(
+                new ShipmentItemRequest(product.getId(), new BigDecimal("20")),
+                new ShipmentItemRequest(newProduct.getId(), new BigDecimal("5"))));
+
+        Shipment updatedShipment = shipmentRepository.findFetchById(shipmentId).orElse(null);
+        assertNotNull(updatedShipment);
+        assertEquals(2, updatedShipment.getShipmentItems().size());
+        ShipmentItem updatedItem = updatedShipment.getShipmentItems().stream()
+                .filter(si -> si.getProduct().getId().equals(product.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(new BigDecimal("30.00"), updatedItem.getWeightKg());
+        assertEquals(new BigDecimal("3000.00"), updatedItem.getTotalPrice());
+    }
+
     @Test
     void getShipmentsReport_shouldReturnShipmentsReport() {
         Supplier supplier = TestUtil.createTestSupplier();
@@ -130,12 +176,56 @@ class ShipmentServiceImplIT {
 
         shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
 
-        List<ShipmentReportDto> report = shipmentService.getShipmentsReport(
-                LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(1));
+        // сводка по частям периода и поставщики
+        List<ShipmentReportDto> report = assertMaxSelects(4, () -> shipmentService.getShipmentsReport(
+                LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(1)));
         assertNotNull(report);
         assertFalse(report.isEmpty());
     }
 
+    @Test
+    void updateShipment_shouldMoveShipmentBetweenReportDays() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        Product product = TestUtil.createTestProduct();
+
+        createTestPrice(supplier, product);
+
+        ShipmentItemRequest itemRequest = new ShipmentItemRequest(product.getId(), new BigDecimal("10"));
+        UUID shipmentId = shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
+        shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
+
+        shipmentService.addShipmentWeights(shipmentId, supplier.getId(), LocalDate.now().minusDays(1),
+                List.of(new ShipmentItemRequest(product.getId(), new BigDecimal("5"))));
+
+        List<ShipmentReportDto> today = shipmentService.getShipmentsReport(LocalDate.now(), LocalDate.now());
+        List<ShipmentReportDto> yesterday = shipmentService.getShipmentsReport(LocalDate.now().minusDays(1),
+                LocalDate.now().minusDays(1));
+        assertEquals(new BigDecimal("10.00"), today.getFirst().getShipments().getFirst().getTotalWeightKg());
+        assertEquals(new BigDecimal("15.00"), yesterday.getFirst().getShipments().getFirst().getTotalWeightKg());
+    }
+
+    @Test
+    void getShipmentsReportSeries_shouldReturnPointPerDay() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        Product product = TestUtil.createTestProduct();
+
+        createTestPrice(supplier, product, LocalDate.now().minusDays(1));
+
+        ShipmentItemRequest itemRequest = new ShipmentItemRequest(product.getId(), new BigDecimal("10"));
+        shipmentService.createShipment(supplier.getId(), LocalDate.now().minusDays(1), List.of(itemRequest));
+        shipmentService.createShipment(supplier.getId(), LocalDate.now().minusDays(1), List.of(itemRequest));
+        shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
+
+        List<ShipmentSeriesDto> series = shipmentService.getShipmentsReportSeries(LocalDate.now().minusDays(1),
+                LocalDate.now(), ShipmentReportGranularity.DAY);
+
+        assertEquals(1, series.size());
+        assertEquals(2, series.getFirst().getPoints().size());
+        assertEquals(LocalDate.now().minusDays(1), series.getFirst().getPoints().get(0).getPeriodStart());
+        assertEquals(new BigDecimal("20.00"), series.getFirst().getPoints().get(0).getTotalWeightKg());
+        assertEquals(new BigDecimal("10.00"), series.getFirst().getPoints().get(1).getTotalWeightKg());
+    }
+
     @Test
     void getShipmentItemsReports_shouldReturnShipmentItems() {
         Supplier supplier = TestUtil.createTestSupplier();
@@ -149,12 +239,47 @@ class ShipmentServiceImplIT {
 
         UUID shipmentId = shipmentService.createShipment(supplier.getId(), LocalDate.now(), List.of(itemRequest));
 
-        List<ShipmentItemReportGraphDto> itemReports = shipmentService.getShipmentItemsReports(shipmentId);
+        List<ShipmentItemReportGraphDto> itemReports = assertMaxSelects(1,
+                () -> shipmentService.getShipmentItemsReports(shipmentId, EnumSet.allOf(ShipmentItemField.class)));
 
         assertNotNull(itemReports);
         assertFalse(itemReports.isEmpty());
     }
 
+    @Test
+    void createAndUpdateShipment_shouldNotQueryPerItem() {
+        Supplier supplier = TestUtil.createTestSupplier();
+        List<ShipmentItemRequest> itemRequests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Product product = TestUtil.createTestProduct();
+            createTestPrice(supplier, product);
+            itemRequests.add(new ShipmentItemRequest(product.getId(), BigDecimal.ONE));
+        }
+
+        UUID shipmentId = assertMaxSelects(3, () -> shipmentService.createShipment(supplier.getId(),
+                LocalDate.now(), itemRequests));
+        assertMaxSelects(4, () -> shipmentService.updateShipment(shipmentId, supplier.getId(), LocalDate.now(),
+                itemRequests));
+        assertMaxSelects(1, () -> shipmentService.getShipmentItemsReports(shipmentId,
+                EnumSet.allOf(ShipmentItemField.class)));
+    }
+
+    @Test
+    void getShipmentsReport_shouldNotQueryPerSupplier() {
+        Product product = TestUtil.createTestProduct();
+        for (int i = 0; i < 3; i++) {
+            Supplier supplier = TestUtil.createTestSupplier();
+            createTestPrice(supplier, product);
+            shipmentService.createShipment(supplier.getId(), LocalDate.now(),
+                    List.of(new ShipmentItemRequest(product.getId(), BigDecimal.ONE)));
+        }
+
+        List<ShipmentReportDto> report = assertMaxSelects(2,
+                () -> shipmentService.getShipmentsReport(LocalDate.now(), LocalDate.now()));
+
+        assertEquals(3, report.size());
+    }
+
     @Test
     void updateShipment_shouldThrowEntityNotFoundException() {
         ShipmentItemRequest itemRequest = new ShipmentItemRequest();
@@ -1,22 +1,34 @@
 package com.example.supplymaster.service.shipment;
 
-import com.example.supplymaster.dto.mappers.ShipmentMapper;
+import com.example.supplymaster.dto.page.CursorPageDto;
+import com.example.supplymaster.dto.shipment.ShipmentHeaderDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentItemField;
 import com.example.supplymaster.dto.shipment.ShipmentItemReportGraphDto;
 import com.example.supplymaster.dto.shipment.ShipmentItemRequest;
 import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
 import com.example.supplymaster.entity.Price;
 import com.example.supplymaster.entity.Product;
 import com.example.supplymaster.entity.Shipment;
-import com.example.supplymaster.entity.ShipmentItem;
 import com.example.supplymaster.entity.Supplier;
 import com.example.supplymaster.error.exception.AccessDeniedException;
 import com.example.supplymaster.error.exception.EntityNotFoundException;
-import com.example.supplymaster.repository.PriceRepository;
+import com.example.supplymaster.error.exception.ValidationException;
+import com.example.supplymaster.event.ShipmentChangedEvent;
 import com.example.supplymaster.repository.ProductRepository;
-import com.example.supplymaster.repository.ShipmentItemRepository;
+import com.example.supplymaster.repository.ShipmentItemJdbcRepository;
+import com.example.supplymaster.repository.ShipmentJdbcRepository;
 import com.example.supplymaster.repository.ShipmentRepository;
+import com.example.supplymaster.repository.ShipmentRollupJdbcRepository;
 import com.example.supplymaster.repository.SupplierRepository;
+import com.example.supplymaster.service.price.index.PriceResolver;
+import com.example.supplymaster.service.reference.ReferenceDataCache;
+import com.example.supplymaster.service.shipment.cursor.ShipmentCursors;
+import com.example.supplymaster.service.shipment.report.PartitionedShipmentSummaryLoader;
+import com.example.supplymaster.service.shipment.report.ShipmentReportCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,21 +36,28 @@ import org.junit.jupiter.api.function.Executable;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,19 +69,34 @@ class ShipmentServiceImplTest {
     private ShipmentRepository shipmentRepository;
 
     @Mock
-    private PriceRepository priceRepository;
+    private PriceResolver priceResolver;
 
     @Mock
     private ProductRepository productRepository;
 
     @Mock
-    private ShipmentItemRepository shipmentItemRepository;
+    private ShipmentItemJdbcRepository shipmentItemJdbcRepository;
+
+    @Mock
+    private ShipmentJdbcRepository shipmentJdbcRepository;
+
+    @Mock
+    private PartitionedShipmentSummaryLoader shipmentSummaryLoader;
+
+    @Mock
+    private ShipmentRollupJdbcRepository shipmentRollupJdbcRepository;
 
     @Mock
     private SupplierRepository supplierRepository;
 
     @Mock
-    private ShipmentMapper shipmentMapper;
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private ShipmentReportCache shipmentReportCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ShipmentServiceImpl shipmentService;
@@ -99,10 +133,11 @@ class ShipmentServiceImplTest {
 
     @Test
     void createShipment_Success() {
-        when(supplierRepository.findById(supplierId)).thenReturn(Optional.of(supplier));
-        when(productRepository.findAllById(any())).thenReturn(List.of(product));
-        when(priceRepository.findPriceForSupplierProducts(eq(supplierId), any(), any()))
-                .thenReturn(List.of(price));
+        when(referenceDataCache.supplierExists(supplierId)).thenReturn(true);
+        when(referenceDataCache.findExistingProductIds(any())).thenReturn(Set.of(product.getId()));
+        when(productRepository.getReferenceById(product.getId())).thenReturn(product);
+        when(priceResolver.resolvePrices(eq(supplierId), any(), any()))
+                .thenReturn(Map.of(product.getId(), price.getPricePerKg()));
         when(shipmentRepository.save(any())).thenReturn(shipment);
 
         UUID result = shipmentService.createShipment(supplierId, LocalDate.now(), shipmentItemRequests);
@@ -110,11 +145,12 @@ class ShipmentServiceImplTest {
         assertNotNull(result);
         assertEquals(shipment.getId(), result);
         verify(shipmentRepository, times(1)).save(any());
+        verify(shipmentRollupJdbcRepository).addShipments(List.of(shipment.getId()));
     }
 
     @Test
     void createShipment_ThrowsEntityNotFoundException_WhenSupplierNotFound() {
-        when(supplierRepository.findById(supplierId)).thenReturn(Optional.empty());
+        when(referenceDataCache.supplierExists(supplierId)).thenReturn(false);
 
         Executable executable = () -> shipmentService.createShipment(supplierId, LocalDate.now(), shipmentItemRequests);
 
@@ -125,9 +161,10 @@ class ShipmentServiceImplTest {
     @Test
     void updateShipment_Success() {
         when(shipmentRepository.findFetchById(any())).thenReturn(Optional.of(shipment));
-        when(productRepository.findAllById(any())).thenReturn(List.of(product));
-        when(priceRepository.findPriceForSupplierProducts(eq(supplierId), any(), any()))
-                .thenReturn(List.of(price));
+        when(referenceDataCache.findExistingProductIds(any())).thenReturn(Set.of(product.getId()));
+        when(productRepository.getReferenceById(product.getId())).thenReturn(product);
+        when(priceResolver.resolvePrices(eq(supplierId), any(), any()))
+                .thenReturn(Map.of(product.getId(), price.getPricePerKg()));
         when(shipmentRepository.save(any())).thenReturn(shipment);
 
         UUID result = shipmentService.updateShipment(shipment.getId(), supplierId,
@@ -136,6 +173,8 @@ class ShipmentServiceImplTest {
         assertNotNull(result);
         assertEquals(shipment.getId(), result);
         verify(shipmentRepository, times(1)).save(any());
+        verify(shipmentRollupJdbcRepository).subtractShipment(shipment.getId());
+        verify(shipmentRollupJdbcRepository).addShipments(List.of(shipment.getId()));
     }
 
     @Test
@@ -149,6 +188,43 @@ class ShipmentServiceImplTest {
         assertThrows(AccessDeniedException.class, executable);
     }
 
+    @Test
+    void addShipmentWeights_Success() {
+        LocalDate newDate = shipment.getShipmentDate().minusDays(1);
+        when(shipmentRepository.findHeaderById(shipment.getId())).thenReturn(Optional.of(
+                new ShipmentHeaderDto(shipment.getId(), supplierId, shipment.getShipmentDate())));
+        when(referenceDataCache.findExistingProductIds(any())).thenReturn(Set.of(product.getId()));
+        when(productRepository.getReferenceById(product.getId())).thenReturn(product);
+        when(priceResolver.resolvePrices(eq(supplierId), any(), eq(newDate)))
+                .thenReturn(Map.of(product.getId(), price.getPricePerKg()));
+        List<ShipmentItemRequest> requests = List.of(
+                new ShipmentItemRequest(product.getId(), new BigDecimal("10")),
+                new ShipmentItemRequest(product.getId(), new BigDecimal("5")));
+
+        UUID result = shipmentService.addShipmentWeights(shipment.getId(), supplierId, newDate, requests);
+
+        assertEquals(shipment.getId(), result);
+        verify(shipmentRepository).updateShipmentDate(shipment.getId(), newDate);
+        verify(shipmentItemJdbcRepository).addWeights(shipment.getId(),
+                Map.of(product.getId(), new BigDecimal("15")), Map.of(product.getId(), price.getPricePerKg()));
+        verify(shipmentRepository, never()).findFetchById(any());
+        verify(shipmentRollupJdbcRepository).subtractShipment(shipment.getId());
+        verify(shipmentRollupJdbcRepository).addShipments(List.of(shipment.getId()));
+        verify(eventPublisher).publishEvent(new ShipmentChangedEvent(Set.of(shipment.getShipmentDate(), newDate)));
+    }
+
+    @Test
+    void addShipmentWeights_ThrowsAccessDeniedException_WhenSupplierMismatch() {
+        when(shipmentRepository.findHeaderById(shipment.getId())).thenReturn(Optional.of(
+                new ShipmentHeaderDto(shipment.getId(), UUID.randomUUID(), shipment.getShipmentDate())));
+
+        Executable executable = () -> shipmentService.addShipmentWeights(shipment.getId(), supplierId,
+                null, shipmentItemRequests);
+
+        assertThrows(AccessDeniedException.class, executable);
+        verify(shipmentItemJdbcRepository, never()).addWeights(any(), any(), any());
+    }
+
     @Test
     void getShipmentsReport_Success() {
         LocalDate startDate = LocalDate.now().minusDays(30);
@@ -159,7 +235,11 @@ class ShipmentServiceImplTest {
                 new BigDecimal("234"));
         List<ShipmentItemDto> listShipmentItemDto = List.of(shipmentItemDto);
 
-        when(shipmentRepository.getProductShipmentSummary(startDate, endDate)).thenReturn(listShipmentItemDto);
+        when(shipmentReportCache.get(eq(startDate), eq(endDate), any()))
+                .thenAnswer(invocation -> invocation.<java.util.function.Supplier<List<ShipmentReportDto>>>getArgument(2)
+                        .get());
+        when(shipmentSummaryLoader.load(startDate, endDate))
+                .thenReturn(listShipmentItemDto);
         when(supplierRepository.findAllById(any())).thenReturn(List.of(supplier));
 
         List<ShipmentReportDto> result = shipmentService.getShipmentsReport(startDate, endDate);
@@ -176,7 +256,11 @@ class ShipmentServiceImplTest {
         LocalDate startDate = LocalDate.now().minusDays(30);
         LocalDate endDate = LocalDate.now();
 
-        when(shipmentRepository.getProductShipmentSummary(startDate, endDate)).thenReturn(Collections.emptyList());
+        when(shipmentReportCache.get(eq(startDate), eq(endDate), any()))
+                .thenAnswer(invocation -> invocation.<java.util.function.Supplier<List<ShipmentReportDto>>>getArgument(2)
+                        .get());
+        when(shipmentSummaryLoader.load(startDate, endDate))
+                .thenReturn(Collections.emptyList());
 
         List<ShipmentReportDto> result = shipmentService.getShipmentsReport(startDate, endDate);
 
@@ -184,20 +268,62 @@ class ShipmentServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getTopShipments_RanksCachedReportInMemory() {
+        LocalDate startDate = LocalDate.now().minusDays(30);
+        LocalDate endDate = LocalDate.now();
+        UUID otherSupplierId = UUID.randomUUID();
+        List<ShipmentReportDto> report = List.of(
+                new ShipmentReportDto(supplierId, "Test Supplier", List.of(new ShipmentItemDto(supplierId,
+                        "Test Supplier", product.getId(), "Product Name", new BigDecimal("10"),
+                        new BigDecimal("100")))),
+                new ShipmentReportDto(otherSupplierId, "Other Supplier", List.of(new ShipmentItemDto(otherSupplierId,
+                        "Other Supplier", product.getId(), "Product Name", new BigDecimal("20"),
+                        new BigDecimal("50")))));
+        when(shipmentReportCache.getIfPresent(startDate, endDate)).thenReturn(report);
+
+        List<ShipmentTopItemDto> result = shipmentService.getTopShipments(startDate, endDate,
+                ShipmentTopDimension.SUPPLIER, ShipmentTopMetric.REVENUE, 1);
+
+        assertEquals(List.of(new ShipmentTopItemDto(supplierId, "Test Supplier", new BigDecimal("10"),
+                new BigDecimal("100"))), result);
+        verify(shipmentRollupJdbcRepository, never()).getTopShipments(any(), any(), any(), any(), any(int.class));
+    }
+
+    @Test
+    void getTopShipments_QueriesDatabase_WhenReportNotCached() {
+        LocalDate startDate = LocalDate.now().minusDays(30);
+        LocalDate endDate = LocalDate.now();
+        List<ShipmentTopItemDto> top = List.of(new ShipmentTopItemDto(product.getId(), "Product Name",
+                new BigDecimal("10"), new BigDecimal("100")));
+        when(shipmentReportCache.getIfPresent(startDate, endDate)).thenReturn(null);
+        when(shipmentRollupJdbcRepository.getTopShipments(startDate, endDate, ShipmentTopDimension.PRODUCT,
+                ShipmentTopMetric.WEIGHT, 10)).thenReturn(top);
+
+        List<ShipmentTopItemDto> result = shipmentService.getTopShipments(startDate, endDate,
+                ShipmentTopDimension.PRODUCT, ShipmentTopMetric.WEIGHT, 10);
+
+        assertEquals(top, result);
+    }
+
+    @Test
+    void getTopShipments_ThrowsValidationException_WhenLimitTooLarge() {
+        assertThrows(ValidationException.class, () -> shipmentService.getTopShipments(LocalDate.now(),
+                LocalDate.now(), ShipmentTopDimension.SUPPLIER, ShipmentTopMetric.WEIGHT, 101));
+    }
+
     @Test
     void getShipmentItemsReports_Success() {
         UUID shipmentId = shipment.getId();
 
         ShipmentItemReportGraphDto graphDto = new ShipmentItemReportGraphDto(product.getId(),
-                12.2f, 1f, 12.2f);
-        ShipmentItem shipmentItem = new ShipmentItem();
-        shipmentItem.setProduct(product);
-        shipmentItem.setWeightKg(new BigDecimal("10"));
+                null, null, 12.2f);
+        Set<ShipmentItemField> fields = EnumSet.of(ShipmentItemField.PRODUCT_ID, ShipmentItemField.TOTAL_PRICE);
 
-        when(shipmentItemRepository.findAllByShipmentId(shipmentId)).thenReturn(List.of(shipmentItem));
-        when(shipmentMapper.toGraphDto(shipmentItem)).thenReturn(graphDto);
+        when(shipmentItemJdbcRepository.findProjections(List.of(shipmentId), fields))
+                .thenReturn(Map.of(shipmentId, List.of(graphDto)));
 
-        List<ShipmentItemReportGraphDto> result = shipmentService.getShipmentItemsReports(shipmentId);
+        List<ShipmentItemReportGraphDto> result = shipmentService.getShipmentItemsReports(shipmentId, fields);
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -208,11 +334,74 @@ class ShipmentServiceImplTest {
     void getShipmentItemsReports_ReturnsEmptyList_WhenNoItems() {
         UUID shipmentId = shipment.getId();
 
-        when(shipmentItemRepository.findAllByShipmentId(shipmentId)).thenReturn(Collections.emptyList());
+        Set<ShipmentItemField> fields = EnumSet.allOf(ShipmentItemField.class);
+
+        when(shipmentItemJdbcRepository.findProjections(List.of(shipmentId), fields)).thenReturn(Map.of());
 
-        List<ShipmentItemReportGraphDto> result = shipmentService.getShipmentItemsReports(shipmentId);
+        List<ShipmentItemReportGraphDto> result = shipmentService.getShipmentItemsReports(shipmentId, fields);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getShipmentsPage_ReturnsNextCursor_WhenMoreShipmentsExist() {
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        ShipmentHeaderDto first = new ShipmentHeaderDto(UUID.randomUUID(), supplierId, date);
+        ShipmentHeaderDto second = new ShipmentHeaderDto(UUID.randomUUID(), supplierId, date);
+        ShipmentHeaderDto third = new ShipmentHeaderDto(UUID.randomUUID(), supplierId, date.plusDays(1));
+        when(shipmentJdbcRepository.findHeadersPage(supplierId, null, null, 3))
+                .thenReturn(List.of(first, second, third));
+
+        CursorPageDto<ShipmentHeaderDto> page = shipmentService.getShipmentsPage(supplierId, 2, null);
+
+        assertEquals(List.of(first, second), page.getItems());
+        assertEquals(new ShipmentCursors.ShipmentPosition(date, second.getId()),
+                ShipmentCursors.parseShipment(page.getNextCursor()));
+    }
+
+    @Test
+    void getShipmentsPage_ReadsAfterCursor_AndReturnsLastPage() {
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        ShipmentHeaderDto previous = new ShipmentHeaderDto(UUID.randomUUID(), supplierId, date);
+        ShipmentHeaderDto last = new ShipmentHeaderDto(UUID.randomUUID(), supplierId, date);
+        when(shipmentJdbcRepository.findHeadersPage(supplierId, date, previous.getId(), 3))
+                .thenReturn(List.of(last));
+
+        CursorPageDto<ShipmentHeaderDto> page = shipmentService.getShipmentsPage(supplierId, 2,
+                ShipmentCursors.ofShipment(previous));
+
+        assertEquals(List.of(last), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getShipmentsPage_ThrowsValidationException_WhenCursorMalformed() {
+        assertThrows(ValidationException.class,
+                () -> shipmentService.getShipmentsPage(supplierId, 10, "bm90LWEtY3Vyc29y"));
+        verify(shipmentJdbcRepository, never()).findHeadersPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getShipmentItemsPage_ReadsAfterCursor() {
+        UUID shipmentId = shipment.getId();
+        ShipmentItemReportGraphDto previous = new ShipmentItemReportGraphDto(UUID.randomUUID(), null, null, null);
+        ShipmentItemReportGraphDto next = new ShipmentItemReportGraphDto(UUID.randomUUID(), null, null, 12.2f);
+        ShipmentItemReportGraphDto extra = new ShipmentItemReportGraphDto(UUID.randomUUID(), null, null, 1.5f);
+        Set<ShipmentItemField> fields = EnumSet.of(ShipmentItemField.TOTAL_PRICE);
+        when(shipmentItemJdbcRepository.findPage(shipmentId, previous.getProductId(), 2, fields))
+                .thenReturn(List.of(next, extra));
+
+        CursorPageDto<ShipmentItemReportGraphDto> page = shipmentService.getShipmentItemsPage(shipmentId, 1,
+                ShipmentCursors.ofShipmentItem(previous), fields);
+
+        assertEquals(List.of(next), page.getItems());
+        assertEquals(next.getProductId(), ShipmentCursors.parseShipmentItem(page.getNextCursor()));
+    }
+
+    @Test
+    void getShipmentItemsPage_ThrowsValidationException_WhenLimitTooLarge() {
+        assertThrows(ValidationException.class, () -> shipmentService.getShipmentItemsPage(shipment.getId(), 1001,
+                null, EnumSet.allOf(ShipmentItemField.class)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.supplymaster.service.shipment.events;
+
+import com.example.supplymaster.config.ShipmentEventProperties;
+import com.example.supplymaster.dto.shipment.ShipmentEventDto;
+import com.example.supplymaster.dto.shipment.ShipmentEventType;
+import com.example.supplymaster.event.ShipmentSavedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShipmentEventBroadcasterTest {
+
+    private final UUID supplierId = UUID.randomUUID();
+    private final LocalDate date = LocalDate.of(2024, 3, 10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShipmentEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ShipmentEventBroadcaster(new ShipmentEventProperties(2, Duration.ofMinutes(1)),
+                meterRegistry);
+    }
+
+    @Test
+    void onShipmentSaved_ConflatesAndDropsEventsOfSlowSubscriber() throws InterruptedException {
+        BlockingQueue<ShipmentEventDto> received = new LinkedBlockingQueue<>();
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.register(null, event -> {
+            received.add(event);
+            firstSent.countDown();
+            await(release);
+        });
+        ShipmentEventDto first = event(ShipmentEventType.CREATED, UUID.randomUUID());
+        broadcaster.onShipmentSaved(new ShipmentSavedEvent(List.of(first)));
+        assertTrue(firstSent.await(5, TimeUnit.SECONDS));
+
+        UUID conflatedId = UUID.randomUUID();
+        ShipmentEventDto second = event(ShipmentEventType.CREATED, UUID.randomUUID());
+        ShipmentEventDto third = event(ShipmentEventType.UPDATED, UUID.randomUUID());
+        broadcaster.onShipmentSaved(new ShipmentSavedEvent(List.of(
+                event(ShipmentEventType.CREATED, conflatedId), second, event(ShipmentEventType.UPDATED, conflatedId),
+                third)));
+        release.countDown();
+
+        assertEquals(first, received.poll(5, TimeUnit.SECONDS));
+        assertEquals(event(ShipmentEventType.CREATED, conflatedId), received.poll(5, TimeUnit.SECONDS));
+        assertEquals(third, received.poll(5, TimeUnit.SECONDS));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1.0, meterRegistry.get("shipment.events.dropped").counter().count());
+    }
+
+    @Test
+    void onShipmentSaved_SendsOnlyEventsOfSubscribedSupplier() throws InterruptedException {
+        BlockingQueue<ShipmentEventDto> received = new LinkedBlockingQueue<>();
+        broadcaster.register(supplierId, received::add);
+        ShipmentEventDto own = event(ShipmentEventType.CREATED, UUID.randomUUID());
+        ShipmentEventDto foreign = new ShipmentEventDto(ShipmentEventType.CREATED, UUID.randomUUID(),
+                UUID.randomUUID(), date);
+
+        broadcaster.onShipmentSaved(new ShipmentSavedEvent(List.of(foreign, own)));
+
+        assertEquals(own, received.poll(5, TimeUnit.SECONDS));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onShipmentSaved_CancelsSubscription_WhenSendFails() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        broadcaster.register(null, event -> {
+            failed.countDown();
+            throw new IOException("Broken pipe");
+        });
+
+        broadcaster.onShipmentSaved(new ShipmentSavedEvent(List.of(event(ShipmentEventType.CREATED,
+                UUID.randomUUID()))));
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("shipment.events.subscribers").gauge().value() > 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0.0, meterRegistry.get("shipment.events.subscribers").gauge().value());
+    }
+
+    private ShipmentEventDto event(ShipmentEventType type, UUID shipmentId) {
+        return new ShipmentEventDto(type, shipmentId, supplierId, date);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.config.ShipmentReportPartitionProperties;
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.metrics.JdbcStatementCounter;
+import com.example.supplymaster.repository.ShipmentDailyRollupRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedShipmentSummaryLoaderTest {
+
+    @Mock
+    private ShipmentDailyRollupRepository shipmentDailyRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DataSource dataSource;
+
+    private PartitionedShipmentSummaryLoader loader;
+
+    private final UUID supplierId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private final UUID otherProductId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        loader = new PartitionedShipmentSummaryLoader(shipmentDailyRollupRepository,
+                new ShipmentReportPartitionProperties(true, Period.ofMonths(1), 2), transactionManager, dataSource);
+    }
+
+    @Test
+    void constructor_Throws_WhenParallelismIsNotLessThanPoolSize() throws Exception {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setMaximumPoolSize(2);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikariDataSource);
+        ShipmentReportPartitionProperties properties = new ShipmentReportPartitionProperties(true,
+                Period.ofMonths(1), 2);
+
+        assertThrows(IllegalStateException.class, () -> new PartitionedShipmentSummaryLoader(
+                shipmentDailyRollupRepository, properties, transactionManager, dataSource));
+    }
+
+    @Test
+    void split_CutsRangeIntoPartitionsEndingOnRangeEnd() {
+        List<PartitionedShipmentSummaryLoader.DateRange> partitions = loader.split(LocalDate.of(2024, 1, 15),
+                LocalDate.of(2024, 3, 20));
+
+        assertEquals(List.of(
+                new PartitionedShipmentSummaryLoader.DateRange(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 14)),
+                new PartitionedShipmentSummaryLoader.DateRange(LocalDate.of(2024, 2, 15), LocalDate.of(2024, 3, 14)),
+                new PartitionedShipmentSummaryLoader.DateRange(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 20))),
+                partitions);
+    }
+
+    @Test
+    void load_MergesPartialSumsBySupplierAndProduct() {
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31)))
+                .thenReturn(List.of(item(productId, "10", "100"), item(otherProductId, "1", "5")));
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 2, 29)))
+                .thenReturn(List.of(item(productId, "5", "50")));
+
+        List<ShipmentItemDto> result = loader.load(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29));
+
+        assertEquals(List.of(item(productId, "15", "150"), item(otherProductId, "1", "5")), result);
+    }
+
+    @Test
+    void load_AddsPartitionStatementsToCallerThread() {
+        JdbcStatementCounter statementCounter = new JdbcStatementCounter();
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(any(), any())).thenAnswer(invocation -> {
+            statementCounter.beforeQuery(null, List.of());
+            statementCounter.afterQuery(null, List.of());
+            return List.of(item(productId, "1", "10"));
+        });
+        JdbcStatementCounter.Stats stats = JdbcStatementCounter.current();
+        long startStatements = stats.statements();
+
+        loader.load(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+
+        assertEquals(3, stats.statements() - startStatements);
+    }
+
+    @Test
+    void load_QueriesWholeRange_WhenItFitsOnePartition() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(startDate, endDate))
+                .thenReturn(List.of(item(productId, "10", "100")));
+
+        List<ShipmentItemDto> result = loader.load(startDate, endDate);
+
+        assertEquals(List.of(item(productId, "10", "100")), result);
+        verify(shipmentDailyRollupRepository).getProductShipmentSummary(startDate, endDate);
+    }
+
+    @Test
+    void load_QueriesWholeRangeWithoutSplitting_WhenDisabled() {
+        PartitionedShipmentSummaryLoader disabledLoader = new PartitionedShipmentSummaryLoader(
+                shipmentDailyRollupRepository, new ShipmentReportPartitionProperties(false, Period.ZERO, 2),
+                transactionManager, dataSource);
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(startDate, endDate))
+                .thenReturn(List.of(item(productId, "10", "100")));
+
+        assertEquals(List.of(item(productId, "10", "100")), disabledLoader.load(startDate, endDate));
+    }
+
+    @Test
+    void load_RethrowsPartitionFailure() {
+        when(shipmentDailyRollupRepository.getProductShipmentSummary(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31)))
+                .thenThrow(new IllegalArgumentException("boom"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> loader.load(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29)));
+    }
+
+    private ShipmentItemDto item(UUID product, String weightKg, String totalPrice) {
+        return new ShipmentItemDto(supplierId, "Supplier", product, "Product", new BigDecimal(weightKg),
+                new BigDecimal(totalPrice));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.config.ShipmentReportCacheProperties;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.event.ShipmentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShipmentReportCacheTest {
+
+    private final LocalDate march1 = LocalDate.of(2024, 3, 1);
+    private final LocalDate march31 = LocalDate.of(2024, 3, 31);
+    private final LocalDate april1 = LocalDate.of(2024, 4, 1);
+    private final LocalDate april30 = LocalDate.of(2024, 4, 30);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShipmentReportCache shipmentReportCache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        shipmentReportCache = new ShipmentReportCache(
+                new ShipmentReportCacheProperties(true, DataSize.ofMegabytes(1)), meterRegistry);
+        builds = new AtomicInteger();
+    }
+
+    @Test
+    void get_BuildsReportOncePerRange() {
+        shipmentReportCache.get(march1, march31, this::buildReport);
+        shipmentReportCache.get(march1, march31, this::buildReport);
+
+        assertEquals(1, builds.get());
+        assertEquals(1, meterRegistry.get("shipment.report.build").timer().count());
+    }
+
+    @Test
+    void onShipmentChanged_EvictsOnlyRangesContainingDate() {
+        shipmentReportCache.get(march1, march31, this::buildReport);
+        shipmentReportCache.get(april1, april30, this::buildReport);
+
+        shipmentReportCache.onShipmentChanged(new ShipmentChangedEvent(Set.of(LocalDate.of(2024, 3, 15))));
+        shipmentReportCache.get(march1, march31, this::buildReport);
+        shipmentReportCache.get(april1, april30, this::buildReport);
+
+        assertEquals(3, builds.get());
+    }
+
+    @Test
+    void get_DoesNotCacheReportBuiltDuringInvalidation() {
+        shipmentReportCache.get(march1, march31, () -> {
+            shipmentReportCache.onShipmentChanged(new ShipmentChangedEvent(Set.of(april1)));
+            return buildReport();
+        });
+        shipmentReportCache.get(march1, march31, this::buildReport);
+
+        assertEquals(2, builds.get());
+    }
+
+    private List<ShipmentReportDto> buildReport() {
+        builds.incrementAndGet();
+        return List.of(new ShipmentReportDto(UUID.randomUUID(), "Сады Кубани", List.of()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.supplymaster.service.shipment.report;
+
+import com.example.supplymaster.dto.shipment.ShipmentItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentReportDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopDimension;
+import com.example.supplymaster.dto.shipment.ShipmentTopItemDto;
+import com.example.supplymaster.dto.shipment.ShipmentTopMetric;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShipmentReportRankingTest {
+
+    private final UUID firstSupplierId = UUID.randomUUID();
+    private final UUID secondSupplierId = UUID.randomUUID();
+    private final UUID thirdSupplierId = UUID.randomUUID();
+    private final UUID appleId = UUID.randomUUID();
+    private final UUID pearId = UUID.randomUUID();
+
+    private final List<ShipmentReportDto> report = List.of(
+            new ShipmentReportDto(firstSupplierId, "A", List.of(
+                    item(firstSupplierId, appleId, "Apple", "10", "100"),
+                    item(firstSupplierId, pearId, "Pear", "5", "80"))),
+            new ShipmentReportDto(secondSupplierId, "B", List.of(
+                    item(secondSupplierId, pearId, "Pear", "30", "300"))),
+            new ShipmentReportDto(thirdSupplierId, "C", List.of(
+                    item(thirdSupplierId, appleId, "Apple", "1", "500"))));
+
+    @Test
+    void rank_ReturnsTopSuppliersByWeight() {
+        List<ShipmentTopItemDto> top = ShipmentReportRanking.rank(report, ShipmentTopDimension.SUPPLIER,
+                ShipmentTopMetric.WEIGHT, 2);
+
+        assertEquals(List.of(
+                new ShipmentTopItemDto(secondSupplierId, "B", new BigDecimal("30"), new BigDecimal("300")),
+                new ShipmentTopItemDto(firstSupplierId, "A", new BigDecimal("15"), new BigDecimal("180"))), top);
+    }
+
+    @Test
+    void rank_SumsProductsAcrossSuppliers() {
+        List<ShipmentTopItemDto> top = ShipmentReportRanking.rank(report, ShipmentTopDimension.PRODUCT,
+                ShipmentTopMetric.REVENUE, 5);
+
+        assertEquals(List.of(
+                new ShipmentTopItemDto(appleId, "Apple", new BigDecimal("11"), new BigDecimal("600")),
+                new ShipmentTopItemDto(pearId, "Pear", new BigDecimal("35"), new BigDecimal("380"))), top);
+    }
+
+    private static ShipmentItemDto item(UUID supplierId, UUID productId, String productName, String weightKg,
+                                        String totalPrice) {
+        return new ShipmentItemDto(supplierId, "Supplier", productId, productName, new BigDecimal(weightKg),
+                new BigDecimal(totalPrice));
+    }
+}
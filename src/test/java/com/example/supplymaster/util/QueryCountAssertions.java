@@ -0,0 +1,59 @@
+package com.example.supplymaster.util;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.springframework.util.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Проверки количества SQL-запросов, выполняемых вызовом, для защиты от лишних обращений к базе данных
+ * (в том числе N+1 при ленивой загрузке связей).
+ * <p>
+ * Запросы считаются прокси источника данных из {@link QueryCountConfig}. Пример:
+ * <pre>{@code
+ * List<ShipmentReportDto> report = assertMaxSelects(2, () -> shipmentService.getShipmentsReport(start, end));
+ * }</pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Выполняет вызов и проверяет, что он выполнил не больше заданного количества запросов SELECT.
+     *
+     * @param maxSelects максимальное количество запросов SELECT.
+     * @param call       проверяемый вызов.
+     * @param <T>        тип результата вызова.
+     * @return результат вызова.
+     */
+    public static <T> T assertMaxSelects(int maxSelects, ThrowingSupplier<T> call) {
+        QueryCounter.INSTANCE.reset();
+        T result = call.get();
+        long selects = QueryCounter.INSTANCE.count(QueryType.SELECT);
+        if (selects > maxSelects) {
+            fail("Ожидалось не более " + maxSelects + " запросов SELECT, выполнено " + selects + " ("
+                    + QueryCounter.INSTANCE + ")");
+        }
+        return result;
+    }
+
+    /**
+     * Выполняет вызов и проверяет, что он выполнил не больше заданного количества SQL-запросов любого типа.
+     *
+     * @param maxStatements максимальное количество SQL-запросов.
+     * @param call          проверяемый вызов.
+     * @param <T>           тип результата вызова.
+     * @return результат вызова.
+     */
+    public static <T> T assertMaxStatements(int maxStatements, ThrowingSupplier<T> call) {
+        QueryCounter.INSTANCE.reset();
+        T result = call.get();
+        long statements = QueryCounter.INSTANCE.total();
+        if (statements > maxStatements) {
+            fail("Ожидалось не более " + maxStatements + " SQL-запросов, выполнено " + statements + " ("
+                    + QueryCounter.INSTANCE + ")");
+        }
+        return result;
+    }
+}
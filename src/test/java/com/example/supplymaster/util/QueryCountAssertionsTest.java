@@ -0,0 +1,80 @@
+package com.example.supplymaster.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opentest4j.AssertionFailedError;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static com.example.supplymaster.util.QueryCountAssertions.assertMaxSelects;
+import static com.example.supplymaster.util.QueryCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCountAssertionsTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        dataSource = (DataSource) QueryCountConfig.queryCountingDataSourcePostProcessor()
+                .postProcessAfterInitialization(targetDataSource, "dataSource");
+    }
+
+    @Test
+    void assertMaxSelects_ReturnsResult_WhenWithinLimit() {
+        int result = assertMaxSelects(2, () -> {
+            execute("SELECT 1");
+            execute("select 2");
+            execute("INSERT INTO t VALUES (1)");
+            return 42;
+        });
+
+        assertEquals(42, result);
+    }
+
+    @Test
+    void assertMaxSelects_Fails_WhenLimitExceeded() {
+        assertThrows(AssertionFailedError.class, () -> assertMaxSelects(1, () -> {
+            execute("SELECT 1");
+            execute("SELECT 2");
+            return null;
+        }));
+    }
+
+    @Test
+    void assertMaxStatements_CountsAllStatementTypes() {
+        assertThrows(AssertionFailedError.class, () -> assertMaxStatements(1, () -> {
+            execute("UPDATE t SET a = 1");
+            execute("DELETE FROM t");
+            return null;
+        }));
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection proxyConnection = dataSource.getConnection();
+             PreparedStatement proxyStatement = proxyConnection.prepareStatement(sql)) {
+            proxyStatement.execute();
+        }
+    }
+}
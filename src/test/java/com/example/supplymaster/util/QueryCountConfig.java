@@ -0,0 +1,32 @@
+package com.example.supplymaster.util;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Конфигурация интеграционных тестов, оборачивающая источник данных прокси для подсчёта SQL-запросов.
+ *
+ * @see QueryCountAssertions
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(QueryCounter.INSTANCE)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
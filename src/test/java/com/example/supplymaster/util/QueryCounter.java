@@ -0,0 +1,60 @@
+package com.example.supplymaster.util;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчик SQL-запросов, выполненных через источник данных в интеграционных тестах.
+ * <p>
+ * Учитываются запросы всех потоков, поэтому в счётчик попадают и запросы, выполняемые сервисами параллельно.
+ * Пакет запросов одного {@code executeBatch} считается одним запросом.
+ */
+public final class QueryCounter implements QueryExecutionListener {
+    static final QueryCounter INSTANCE = new QueryCounter();
+
+    private final Map<QueryType, LongAdder> counts = new EnumMap<>(QueryType.class);
+
+    private QueryCounter() {
+        for (QueryType type : QueryType.values()) {
+            counts.put(type, new LongAdder());
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            counts.get(QueryUtils.getQueryType(queryInfo.getQuery())).increment();
+        }
+    }
+
+    void reset() {
+        counts.values().forEach(LongAdder::reset);
+    }
+
+    long count(QueryType type) {
+        return counts.get(type).sum();
+    }
+
+    long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SELECT=" + count(QueryType.SELECT) + ", INSERT=" + count(QueryType.INSERT)
+                + ", UPDATE=" + count(QueryType.UPDATE) + ", DELETE=" + count(QueryType.DELETE)
+                + ", OTHER=" + count(QueryType.OTHER);
+    }
+}
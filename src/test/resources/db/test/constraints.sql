@@ -0,0 +1,18 @@
+-- Ограничения из миграций Flyway, которые Hibernate не создаёт по маппингу сущностей.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE prices
+    DROP CONSTRAINT IF EXISTS prices_dates_check;
+
+ALTER TABLE prices
+    ADD CONSTRAINT prices_dates_check CHECK (start_date <= end_date);
+
+ALTER TABLE prices
+    DROP CONSTRAINT IF EXISTS prices_no_overlap;
+
+ALTER TABLE prices
+    ADD CONSTRAINT prices_no_overlap EXCLUDE USING gist (
+        supplier_id WITH =,
+        product_id WITH =,
+        daterange(start_date, end_date, '[]') WITH &&
+        );